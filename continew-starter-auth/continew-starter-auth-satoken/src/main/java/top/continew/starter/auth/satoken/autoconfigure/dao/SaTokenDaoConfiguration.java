@@ -18,16 +18,19 @@ package top.continew.starter.auth.satoken.autoconfigure.dao;
 
 import cn.dev33.satoken.dao.SaTokenDao;
 import cn.dev33.satoken.dao.SaTokenDaoDefaultImpl;
+import org.redisson.api.RedissonClient;
 import org.redisson.client.RedisClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.ResolvableType;
+import top.continew.starter.auth.satoken.autoconfigure.SaTokenExtensionProperties;
 import top.continew.starter.cache.redisson.autoconfigure.RedissonAutoConfiguration;
 
 /**
@@ -72,8 +75,18 @@ public class SaTokenDaoConfiguration {
         }
 
         @Bean
-        public SaTokenDao saTokenDao() {
-            return new SaTokenDaoRedisDefaultImpl();
+        public SaTokenDao saTokenDao(SaTokenExtensionProperties properties,
+                                     ObjectProvider<RedissonClient> redissonClient) {
+            SaTokenDaoProperties daoProperties = null == properties.getDao()
+                ? new SaTokenDaoProperties()
+                : properties.getDao();
+            SaTokenDaoLocalCacheProperties localCache = daoProperties.getLocalCache();
+            SaTokenDaoRedisDefaultImpl saTokenDao = null != localCache && localCache.isEnabled()
+                ? new SaTokenDaoRedisNearCacheImpl(redissonClient.getObject(), localCache.getMaxSize(), localCache
+                    .getTimeout())
+                : new SaTokenDaoRedisDefaultImpl();
+            saTokenDao.setSearchIndexEnabled(daoProperties.isSearchIndexEnabled());
+            return saTokenDao;
         }
     }
 
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.auth.satoken.autoconfigure.dao;
+
+import java.time.Duration;
+
+/**
+ * SaToken 持久层本地缓存配置属性
+ *
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public class SaTokenDaoLocalCacheProperties {
+
+    /**
+     * 是否启用（仅对 Redis 持久层生效，启用后在 Redis 前增加一层本地缓存，写入、删除时通过 Redis 发布订阅通知其他节点失效）
+     */
+    private boolean enabled = false;
+
+    /**
+     * 最大缓存数量
+     */
+    private int maxSize = 10000;
+
+    /**
+     * 过期时间（兜底失效时间，同时也是 Token 在 Redis 中过期后本地缓存可能继续命中的最长时间，建议设置较短）
+     */
+    private Duration timeout = Duration.ofSeconds(5);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+}
@@ -16,6 +16,7 @@
 
 package top.continew.starter.auth.satoken.autoconfigure.dao;
 
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 import top.continew.starter.auth.satoken.enums.SaTokenDaoType;
 
 /**
@@ -31,6 +32,17 @@ public class SaTokenDaoProperties {
      */
     private SaTokenDaoType type = SaTokenDaoType.DEFAULT;
 
+    /**
+     * 本地缓存配置
+     */
+    @NestedConfigurationProperty
+    private SaTokenDaoLocalCacheProperties localCache = new SaTokenDaoLocalCacheProperties();
+
+    /**
+     * 是否启用搜索索引（仅对 Redis 持久层生效，启用后会话搜索按有序集合索引分页读取，无需遍历整个键空间；仅对启用后写入的数据生效）
+     */
+    private boolean searchIndexEnabled = false;
+
     public SaTokenDaoType getType() {
         return type;
     }
@@ -38,4 +50,20 @@ public class SaTokenDaoProperties {
     public void setType(SaTokenDaoType type) {
         this.type = type;
     }
+
+    public SaTokenDaoLocalCacheProperties getLocalCache() {
+        return localCache;
+    }
+
+    public void setLocalCache(SaTokenDaoLocalCacheProperties localCache) {
+        this.localCache = localCache;
+    }
+
+    public boolean isSearchIndexEnabled() {
+        return searchIndexEnabled;
+    }
+
+    public void setSearchIndexEnabled(boolean searchIndexEnabled) {
+        this.searchIndexEnabled = searchIndexEnabled;
+    }
 }
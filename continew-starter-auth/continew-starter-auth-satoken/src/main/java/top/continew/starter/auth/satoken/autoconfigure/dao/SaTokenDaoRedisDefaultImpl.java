@@ -18,12 +18,18 @@ package top.continew.starter.auth.satoken.autoconfigure.dao;
 
 import cn.dev33.satoken.dao.SaTokenDao;
 import cn.dev33.satoken.util.SaFoxUtil;
+import cn.hutool.core.util.StrUtil;
+import org.redisson.api.RBucketAsync;
+import org.redisson.api.RScoredSortedSetAsync;
 import top.continew.starter.cache.redisson.util.RedisUtils;
+import top.continew.starter.core.constant.StringConstants;
 
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * 默认 Sa-Token 持久层 Redis 实现（参考：Sa-Token/sa-token-plugin/sa-token-dao-redisx/SaTokenDaoOfRedis.java）
@@ -33,6 +39,31 @@ import java.util.List;
  */
 public class SaTokenDaoRedisDefaultImpl implements SaTokenDao {
 
+    /**
+     * SCAN 的 COUNT 提示值
+     */
+    private static final int SCAN_COUNT = 1000;
+
+    /**
+     * 搜索索引键前缀
+     */
+    private static final String SEARCH_INDEX_KEY_PREFIX = "satoken:search-index:";
+
+    /**
+     * 搜索索引每次读取数量
+     */
+    private static final int SEARCH_INDEX_BATCH_SIZE = 500;
+
+    /**
+     * 永不过期键的搜索索引分数
+     */
+    private static final double NEVER_EXPIRE_SCORE = Long.MAX_VALUE;
+
+    /**
+     * 是否启用搜索索引
+     */
+    private boolean searchIndexEnabled = false;
+
     @Override
     public String get(String key) {
         return RedisUtils.get(key);
@@ -43,27 +74,19 @@ public class SaTokenDaoRedisDefaultImpl implements SaTokenDao {
         if (timeout == 0 || timeout <= SaTokenDao.NOT_VALUE_EXPIRE) {
             return;
         }
-        // 判断是否为永不过期
-        if (timeout == SaTokenDao.NEVER_EXPIRE) {
-            RedisUtils.set(key, value);
-        } else {
-            RedisUtils.set(key, value, Duration.ofSeconds(timeout));
-        }
+        this.write(key, value, timeout);
     }
 
     @Override
     public void update(String key, String value) {
-        long expire = getTimeout(key);
-        // -2：无此键
-        if (expire == SaTokenDao.NOT_VALUE_EXPIRE) {
-            return;
-        }
-        this.set(key, value, expire);
+        // 仅当键存在时更新，并保留剩余过期时间（原子操作）
+        RedisUtils.setKeepTtl(key, value);
     }
 
     @Override
     public void delete(String key) {
         RedisUtils.delete(key);
+        this.removeSearchIndex(key);
     }
 
     @Override
@@ -74,13 +97,24 @@ public class SaTokenDaoRedisDefaultImpl implements SaTokenDao {
 
     @Override
     public void updateTimeout(String key, long timeout) {
-        // 判断是否想要设置为永久
+        String indexKey = this.getSearchIndexKey(key);
+        if (null != indexKey) {
+            // 同步更新搜索索引中的过期时间（一次网络往返）
+            double score = this.getSearchIndexScore(System.currentTimeMillis(), timeout);
+            RedisUtils.pipeline(batch -> {
+                RBucketAsync<Object> bucket = batch.getBucket(key);
+                if (timeout == SaTokenDao.NEVER_EXPIRE) {
+                    bucket.clearExpireAsync();
+                } else {
+                    bucket.expireAsync(Duration.ofSeconds(timeout));
+                }
+                batch.<String>getScoredSortedSet(indexKey).addIfExistsAsync(score, key);
+            });
+            return;
+        }
+        // 判断是否想要设置为永久（已经是永久或键不存在时不作任何处理）
         if (timeout == SaTokenDao.NEVER_EXPIRE) {
-            long expire = getTimeout(key);
-            // 如果其已经被设置为永久，则不作任何处理。如果尚未被设置为永久，那么再次 set 一次
-            if (expire != SaTokenDao.NEVER_EXPIRE) {
-                this.set(key, this.get(key), timeout);
-            }
+            RedisUtils.persist(key);
             return;
         }
         RedisUtils.expire(key, Duration.ofSeconds(timeout));
@@ -96,27 +130,19 @@ public class SaTokenDaoRedisDefaultImpl implements SaTokenDao {
         if (0 == timeout || timeout <= SaTokenDao.NOT_VALUE_EXPIRE) {
             return;
         }
-        // 判断是否为永不过期
-        if (timeout == SaTokenDao.NEVER_EXPIRE) {
-            RedisUtils.set(key, object);
-        } else {
-            RedisUtils.set(key, object, Duration.ofSeconds(timeout));
-        }
+        this.write(key, object, timeout);
     }
 
     @Override
     public void updateObject(String key, Object object) {
-        long expire = getObjectTimeout(key);
-        // -2：无此键
-        if (expire == SaTokenDao.NOT_VALUE_EXPIRE) {
-            return;
-        }
-        this.setObject(key, object, expire);
+        // 仅当键存在时更新，并保留剩余过期时间（原子操作）
+        RedisUtils.setKeepTtl(key, object);
     }
 
     @Override
     public void deleteObject(String key) {
         RedisUtils.delete(key);
+        this.removeSearchIndex(key);
     }
 
     @Override
@@ -126,22 +152,164 @@ public class SaTokenDaoRedisDefaultImpl implements SaTokenDao {
 
     @Override
     public void updateObjectTimeout(String key, long timeout) {
-        // 判断是否想要设置为永久
-        if (timeout == SaTokenDao.NEVER_EXPIRE) {
-            long expire = getObjectTimeout(key);
-            // 如果其已经被设置为永久，则不作任何处理。如果尚未被设置为永久，那么再次 set 一次
-            if (expire != SaTokenDao.NEVER_EXPIRE) {
-                this.setObject(key, this.getObject(key), timeout);
-            }
-            return;
-        }
-        RedisUtils.expire(key, Duration.ofSeconds(timeout));
+        this.updateTimeout(key, timeout);
+    }
+
+    /**
+     * 批量查询（一次网络往返，适用于批量查询会话等场景）
+     *
+     * @param keys 键列表
+     * @return 键值映射（不包含不存在的键）
+     * @since 2.7.5
+     */
+    public Map<String, Object> getMulti(Collection<String> keys) {
+        return RedisUtils.mGet(keys);
     }
 
     @Override
     public List<String> searchData(String prefix, String keyword, int start, int size, boolean sortType) {
-        Collection<String> keys = RedisUtils.keys("%s*%s*".formatted(prefix, keyword));
+        if (searchIndexEnabled && prefix.endsWith(StringConstants.COLON)) {
+            return this.searchByIndex(prefix, keyword, start, size, sortType);
+        }
+        String pattern = "%s*%s*".formatted(prefix, keyword);
+        // SCAN 结果本身无序，正序时收集到 start + size 个即停止迭代；倒序、获取全部时需完整迭代
+        if (sortType && size >= 0) {
+            long limit = (long)Math.max(start, 0) + size;
+            List<String> list = new ArrayList<>(RedisUtils.keys(pattern, SCAN_COUNT, limit));
+            return SaFoxUtil.searchList(list, start, size, true);
+        }
+        Collection<String> keys = RedisUtils.keys(pattern);
         List<String> list = new ArrayList<>(keys);
         return SaFoxUtil.searchList(list, start, size, sortType);
     }
+
+    /**
+     * 设置是否启用搜索索引
+     * <p>
+     * 启用后写入数据时同时将键按过期时间记录到有序集合索引中（与写入在同一批次中执行），搜索时按索引分页读取（正序：按过期时间升序），
+     * 无需遍历整个键空间；每次写入时清理已过期的索引，避免索引无限增长，被外部删除的键在搜索时惰性清理。仅对启用后写入的数据生效。
+     * </p>
+     *
+     * @param searchIndexEnabled 是否启用搜索索引
+     * @since 2.7.5
+     */
+    public void setSearchIndexEnabled(boolean searchIndexEnabled) {
+        this.searchIndexEnabled = searchIndexEnabled;
+    }
+
+    /**
+     * 基于索引搜索数据
+     *
+     * @param prefix   前缀
+     * @param keyword  关键字
+     * @param start    开始处索引
+     * @param size     获取数量（-1 表示获取全部）
+     * @param sortType 排序类型（true：正序；false：倒序）
+     * @return 键列表
+     */
+    private List<String> searchByIndex(String prefix, String keyword, int start, int size, boolean sortType) {
+        String indexKey = SEARCH_INDEX_KEY_PREFIX + prefix;
+        int skip = Math.max(start, 0);
+        List<String> result = new ArrayList<>();
+        int offset = 0;
+        while (size < 0 || result.size() < size) {
+            Collection<String> indexKeys = RedisUtils
+                .zRangeByRank(indexKey, offset, offset + SEARCH_INDEX_BATCH_SIZE - 1, !sortType);
+            if (indexKeys.isEmpty()) {
+                break;
+            }
+            // 惰性清理已过期的键
+            Set<String> existKeys = RedisUtils.filterExists(indexKeys);
+            List<String> expiredKeys = new ArrayList<>();
+            for (String key : indexKeys) {
+                if (!existKeys.contains(key)) {
+                    expiredKeys.add(key);
+                    continue;
+                }
+                if (StrUtil.isNotEmpty(keyword) && key.indexOf(keyword, prefix.length()) < 0) {
+                    continue;
+                }
+                if (skip > 0) {
+                    skip--;
+                } else if (size < 0 || result.size() < size) {
+                    result.add(key);
+                }
+            }
+            if (!expiredKeys.isEmpty()) {
+                RedisUtils.zRemove(indexKey, expiredKeys);
+            }
+            offset += indexKeys.size() - expiredKeys.size();
+        }
+        return result;
+    }
+
+    /**
+     * 写入数据（启用搜索索引时，写入数据、添加索引、清理已过期索引在同一批次中执行）
+     *
+     * @param key     键
+     * @param value   值
+     * @param timeout 过期时间（单位：秒）
+     */
+    private void write(String key, Object value, long timeout) {
+        String indexKey = this.getSearchIndexKey(key);
+        if (null == indexKey) {
+            // 判断是否为永不过期
+            if (timeout == SaTokenDao.NEVER_EXPIRE) {
+                RedisUtils.set(key, value);
+            } else {
+                RedisUtils.set(key, value, Duration.ofSeconds(timeout));
+            }
+            return;
+        }
+        long now = System.currentTimeMillis();
+        double score = this.getSearchIndexScore(now, timeout);
+        RedisUtils.pipeline(batch -> {
+            RBucketAsync<Object> bucket = batch.getBucket(key);
+            if (timeout == SaTokenDao.NEVER_EXPIRE) {
+                bucket.setAsync(value);
+            } else {
+                bucket.setAsync(value, Duration.ofSeconds(timeout));
+            }
+            RScoredSortedSetAsync<String> index = batch.getScoredSortedSet(indexKey);
+            index.addAsync(score, key);
+            index.removeRangeByScoreAsync(Double.NEGATIVE_INFINITY, true, now, false);
+        });
+    }
+
+    /**
+     * 获取搜索索引分数（过期时间戳）
+     *
+     * @param now     当前时间戳（单位：毫秒）
+     * @param timeout 过期时间（单位：秒）
+     * @return 搜索索引分数
+     */
+    private double getSearchIndexScore(long now, long timeout) {
+        return timeout == SaTokenDao.NEVER_EXPIRE ? NEVER_EXPIRE_SCORE : now + timeout * 1000;
+    }
+
+    /**
+     * 删除搜索索引
+     *
+     * @param key 键
+     */
+    private void removeSearchIndex(String key) {
+        String indexKey = this.getSearchIndexKey(key);
+        if (null != indexKey) {
+            RedisUtils.zRemove(indexKey, key);
+        }
+    }
+
+    /**
+     * 获取搜索索引键（按键最后一个冒号之前的部分分组）
+     *
+     * @param key 键
+     * @return 搜索索引键，未启用搜索索引或键中不含冒号时为 {@code null}
+     */
+    private String getSearchIndexKey(String key) {
+        int index = key.lastIndexOf(StringConstants.COLON);
+        if (!searchIndexEnabled || index < 0) {
+            return null;
+        }
+        return SEARCH_INDEX_KEY_PREFIX + key.substring(0, index + 1);
+    }
 }
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.auth.satoken.autoconfigure.dao;
+
+import cn.hutool.cache.CacheUtil;
+import cn.hutool.cache.impl.LRUCache;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import top.continew.starter.cache.redisson.util.RedisUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sa-Token 持久层 Redis 实现（本地缓存 + Redis 两级缓存）
+ * <p>
+ * 读取时优先命中本地缓存（包括不存在的键），未命中再读取 Redis；写入、删除时先失效本地缓存，再通过 Redis 发布订阅通知其他节点失效。
+ * 仅修改过期时间（续期）不会改变值，因此不触发失效通知。本地缓存设有较短的过期时间作为兜底（如：通知丢失、Token 在 Redis 中自然过期）。
+ * </p>
+ *
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public class SaTokenDaoRedisNearCacheImpl extends SaTokenDaoRedisDefaultImpl {
+
+    /**
+     * 失效通知主题
+     */
+    private static final String INVALIDATE_TOPIC = "satoken:near-cache:invalidate";
+
+    /**
+     * 空值占位（缓存不存在的键，避免无效 Token 反复穿透到 Redis）
+     */
+    private static final Object NULL_VALUE = new Object();
+
+    private final LRUCache<String, Object> localCache;
+    private final RTopic invalidateTopic;
+    private final AtomicLong invalidateVersion = new AtomicLong();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public SaTokenDaoRedisNearCacheImpl(RedissonClient redissonClient, int maxSize, Duration timeout) {
+        this.localCache = CacheUtil.newLRUCache(maxSize, timeout.toMillis());
+        this.invalidateTopic = redissonClient.getTopic(INVALIDATE_TOPIC, StringCodec.INSTANCE);
+        this.invalidateTopic.addListener(String.class, (channel, key) -> this.invalidateLocal(key));
+    }
+
+    @Override
+    public String get(String key) {
+        return (String)this.getCached(key);
+    }
+
+    @Override
+    public void set(String key, String value, long timeout) {
+        super.set(key, value, timeout);
+        this.invalidate(key);
+    }
+
+    @Override
+    public void update(String key, String value) {
+        super.update(key, value);
+        this.invalidate(key);
+    }
+
+    @Override
+    public void delete(String key) {
+        super.delete(key);
+        this.invalidate(key);
+    }
+
+    @Override
+    public Object getObject(String key) {
+        return this.getCached(key);
+    }
+
+    @Override
+    public void setObject(String key, Object object, long timeout) {
+        super.setObject(key, object, timeout);
+        this.invalidate(key);
+    }
+
+    @Override
+    public void updateObject(String key, Object object) {
+        super.updateObject(key, object);
+        this.invalidate(key);
+    }
+
+    @Override
+    public void deleteObject(String key) {
+        super.deleteObject(key);
+        this.invalidate(key);
+    }
+
+    @Override
+    public Map<String, Object> getMulti(Collection<String> keys) {
+        if (null == keys || keys.isEmpty()) {
+            return new HashMap<>(0);
+        }
+        Map<String, Object> result = new HashMap<>(keys.size());
+        List<String> missKeys = new ArrayList<>();
+        for (String key : keys) {
+            Object value = localCache.get(key, false);
+            if (null == value) {
+                missKeys.add(key);
+            } else if (NULL_VALUE != value) {
+                result.put(key, value);
+            }
+        }
+        hitCount.add(keys.size() - missKeys.size());
+        missCount.add(missKeys.size());
+        if (missKeys.isEmpty()) {
+            return result;
+        }
+        long version = invalidateVersion.get();
+        Map<String, Object> loaded = super.getMulti(missKeys);
+        result.putAll(loaded);
+        if (version == invalidateVersion.get()) {
+            for (String key : missKeys) {
+                localCache.put(key, loaded.getOrDefault(key, NULL_VALUE));
+            }
+            if (version != invalidateVersion.get()) {
+                missKeys.forEach(localCache::remove);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 获取本地缓存命中次数
+     *
+     * @return 命中次数
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * 获取本地缓存未命中次数
+     *
+     * @return 未命中次数
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * 获取本地缓存命中率
+     *
+     * @return 命中率（0~1，尚无请求时为 0）
+     */
+    public double getHitRatio() {
+        long hit = hitCount.sum();
+        long total = hit + missCount.sum();
+        return total == 0 ? 0 : (double)hit / total;
+    }
+
+    /**
+     * 获取本地缓存数量
+     *
+     * @return 本地缓存数量
+     */
+    public int getLocalCacheSize() {
+        return localCache.size();
+    }
+
+    /**
+     * 读取缓存（本地缓存未命中时读取 Redis 并回填）
+     *
+     * @param key 键
+     * @return 值
+     */
+    private Object getCached(String key) {
+        Object value = localCache.get(key, false);
+        if (null != value) {
+            hitCount.increment();
+            return NULL_VALUE == value ? null : value;
+        }
+        missCount.increment();
+        // 读取 Redis 期间发生失效时不回填，避免将旧值写回本地缓存
+        long version = invalidateVersion.get();
+        value = RedisUtils.get(key);
+        if (version == invalidateVersion.get()) {
+            localCache.put(key, null == value ? NULL_VALUE : value);
+            if (version != invalidateVersion.get()) {
+                localCache.remove(key);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 失效本地缓存并通知其他节点
+     *
+     * @param key 键
+     */
+    private void invalidate(String key) {
+        this.invalidateLocal(key);
+        invalidateTopic.publish(key);
+    }
+
+    /**
+     * 失效本地缓存
+     *
+     * @param key 键
+     */
+    private void invalidateLocal(String key) {
+        invalidateVersion.incrementAndGet();
+        localCache.remove(key);
+    }
+}
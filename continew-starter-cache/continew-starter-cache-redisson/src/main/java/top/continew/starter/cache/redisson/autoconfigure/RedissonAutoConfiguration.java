@@ -19,8 +19,11 @@ package top.continew.starter.cache.redisson.autoconfigure;
 import cn.hutool.core.bean.BeanUtil;
 import cn.hutool.core.collection.CollUtil;
 import cn.hutool.core.text.CharSequenceUtil;
+import cn.hutool.core.util.ClassLoaderUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.redisson.client.codec.Codec;
 import org.redisson.codec.JsonJacksonCodec;
+import org.redisson.codec.Kryo5Codec;
 import org.redisson.config.ClusterServersConfig;
 import org.redisson.config.Config;
 import org.redisson.config.SentinelServersConfig;
@@ -29,10 +32,16 @@ import org.redisson.spring.starter.RedissonAutoConfigurationCustomizer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import top.continew.starter.cache.redisson.codec.JacksonSmileCodec;
+import top.continew.starter.cache.redisson.codec.Lz4Compressor;
+import top.continew.starter.cache.redisson.codec.ThresholdCompressionCodec;
+import top.continew.starter.cache.redisson.codec.ZstdCompressor;
+import top.continew.starter.cache.redisson.core.RedisCacheLoader;
 import top.continew.starter.core.constant.PropertiesConstants;
 import top.continew.starter.core.constant.StringConstants;
 
@@ -77,12 +86,69 @@ public class RedissonAutoConfiguration {
                 case SENTINEL -> this.buildSentinelModeConfig(config, protocolPrefix);
                 default -> this.buildSingleModeConfig(config, protocolPrefix);
             }
-            // Jackson 处理
-            config.setCodec(new JsonJacksonCodec(objectMapper));
+            // 编解码处理
+            config.setCodec(this.buildCodec());
             log.debug("[ContiNew Starter] - Auto Configuration 'Redisson' completed initialization.");
         };
     }
 
+    /**
+     * Redis 缓存加载器（防缓存击穿）
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnMissingBean
+    public RedisCacheLoader redisCacheLoader() {
+        RedissonProperties.LoaderProperties loader = properties.getLoader();
+        return new RedisCacheLoader(loader.isDistributedLockEnabled(), loader.getLockWaitTime(), loader
+            .getLockLeaseTime(), loader.getBeta(), loader.getRefreshAheadHits(), loader
+                .getRefreshAheadRatio(), loader.getRefreshPoolSize(), loader.getRefreshQueueCapacity());
+    }
+
+    /**
+     * 构建编解码器
+     *
+     * @return 编解码器
+     */
+    private Codec buildCodec() {
+        RedissonProperties.CodecProperties codecProperties = properties.getCodec();
+        Codec codec = switch (codecProperties.getType()) {
+            case SMILE -> {
+                this.checkDependency("com.fasterxml.jackson.dataformat.smile.SmileFactory", "jackson-dataformat-smile");
+                yield new JacksonSmileCodec(objectMapper);
+            }
+            case KRYO -> {
+                this.checkDependency("com.esotericsoftware.kryo.kryo5.Kryo", "kryo5");
+                yield new Kryo5Codec();
+            }
+            default -> new JsonJacksonCodec(objectMapper);
+        };
+        int threshold = (int)Math.min(codecProperties.getCompressionThreshold().toBytes(), Integer.MAX_VALUE);
+        return switch (codecProperties.getCompression()) {
+            case LZ4 -> {
+                this.checkDependency("net.jpountz.lz4.LZ4Factory", "lz4-java");
+                yield new ThresholdCompressionCodec(codec, new Lz4Compressor(), threshold);
+            }
+            case ZSTD -> {
+                this.checkDependency("com.github.luben.zstd.Zstd", "zstd-jni");
+                yield new ThresholdCompressionCodec(codec, new ZstdCompressor(), threshold);
+            }
+            default -> codec;
+        };
+    }
+
+    /**
+     * 检查可选依赖
+     *
+     * @param className  依赖中的类名
+     * @param artifactId 依赖名称
+     */
+    private void checkDependency(String className, String artifactId) {
+        if (!ClassLoaderUtil.isPresent(className)) {
+            throw new IllegalStateException("Redisson codec requires dependency [%s] on the classpath"
+                .formatted(artifactId));
+        }
+    }
+
     /**
      * 构建集群模式配置
      *
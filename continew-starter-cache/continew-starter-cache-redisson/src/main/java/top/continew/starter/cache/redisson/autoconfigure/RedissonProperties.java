@@ -20,6 +20,9 @@ import org.redisson.config.ClusterServersConfig;
 import org.redisson.config.SentinelServersConfig;
 import org.redisson.config.SingleServerConfig;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
 
 /**
  * Redisson 配置属性
@@ -56,6 +59,16 @@ public class RedissonProperties {
      */
     private SentinelServersConfig sentinelServersConfig;
 
+    /**
+     * 编解码配置
+     */
+    private CodecProperties codec = new CodecProperties();
+
+    /**
+     * 缓存加载器配置
+     */
+    private LoaderProperties loader = new LoaderProperties();
+
     /**
      * Redis 模式
      */
@@ -76,6 +89,212 @@ public class RedissonProperties {
         SENTINEL
     }
 
+    /**
+     * 编解码类型
+     *
+     * @since 2.7.5
+     */
+    public enum CodecType {
+        /**
+         * JSON（Jackson，默认）
+         */
+        JSON,
+
+        /**
+         * Smile（Jackson 二进制 JSON，需引入 jackson-dataformat-smile 依赖）
+         */
+        SMILE,
+
+        /**
+         * Kryo（二进制，需引入 kryo 5.x 依赖）
+         */
+        KRYO
+    }
+
+    /**
+     * 压缩类型
+     *
+     * @since 2.7.5
+     */
+    public enum CompressionType {
+        /**
+         * 不压缩
+         */
+        NONE,
+
+        /**
+         * LZ4（需引入 lz4-java 依赖）
+         */
+        LZ4,
+
+        /**
+         * Zstandard（需引入 zstd-jni 依赖）
+         */
+        ZSTD
+    }
+
+    /**
+     * 编解码配置属性
+     * <p>
+     * 注意：切换编解码类型后，已有缓存数据将无法被正确读取，请在切换前清理缓存；开启或关闭压缩不受影响（未压缩数据可被正常读取）
+     * </p>
+     *
+     * @since 2.7.5
+     */
+    public static class CodecProperties {
+
+        /**
+         * 编解码类型
+         */
+        private CodecType type = CodecType.JSON;
+
+        /**
+         * 压缩类型
+         */
+        private CompressionType compression = CompressionType.NONE;
+
+        /**
+         * 压缩阈值（序列化后大小达到该阈值才进行压缩）
+         */
+        private DataSize compressionThreshold = DataSize.ofKilobytes(4);
+
+        public CodecType getType() {
+            return type;
+        }
+
+        public void setType(CodecType type) {
+            this.type = type;
+        }
+
+        public CompressionType getCompression() {
+            return compression;
+        }
+
+        public void setCompression(CompressionType compression) {
+            this.compression = compression;
+        }
+
+        public DataSize getCompressionThreshold() {
+            return compressionThreshold;
+        }
+
+        public void setCompressionThreshold(DataSize compressionThreshold) {
+            this.compressionThreshold = compressionThreshold;
+        }
+    }
+
+    /**
+     * 缓存加载器配置属性
+     *
+     * @since 2.7.5
+     */
+    public static class LoaderProperties {
+
+        /**
+         * 是否启用分布式锁（缓存未命中时在节点间互斥加载）
+         */
+        private boolean distributedLockEnabled = false;
+
+        /**
+         * 分布式锁等待时间（超时后仍未获取到锁则直接加载）
+         */
+        private Duration lockWaitTime = Duration.ofSeconds(3);
+
+        /**
+         * 分布式锁持有时间（应大于加载耗时）
+         */
+        private Duration lockLeaseTime = Duration.ofSeconds(30);
+
+        /**
+         * 概率提前刷新（XFetch）系数（越大越早刷新，小于等于 0 表示禁用）
+         */
+        private double beta = 1.0;
+
+        /**
+         * 热点提前刷新命中次数阈值（自上次加载以来的命中次数，小于等于 0 表示禁用）
+         */
+        private int refreshAheadHits = 0;
+
+        /**
+         * 热点提前刷新剩余有效期比例（剩余有效期低于过期时间的该比例时刷新）
+         */
+        private double refreshAheadRatio = 0.2;
+
+        /**
+         * 后台刷新线程数
+         */
+        private int refreshPoolSize = 2;
+
+        /**
+         * 后台刷新队列容量（队列已满时跳过本次提前刷新）
+         */
+        private int refreshQueueCapacity = 100;
+
+        public boolean isDistributedLockEnabled() {
+            return distributedLockEnabled;
+        }
+
+        public void setDistributedLockEnabled(boolean distributedLockEnabled) {
+            this.distributedLockEnabled = distributedLockEnabled;
+        }
+
+        public Duration getLockWaitTime() {
+            return lockWaitTime;
+        }
+
+        public void setLockWaitTime(Duration lockWaitTime) {
+            this.lockWaitTime = lockWaitTime;
+        }
+
+        public Duration getLockLeaseTime() {
+            return lockLeaseTime;
+        }
+
+        public void setLockLeaseTime(Duration lockLeaseTime) {
+            this.lockLeaseTime = lockLeaseTime;
+        }
+
+        public double getBeta() {
+            return beta;
+        }
+
+        public void setBeta(double beta) {
+            this.beta = beta;
+        }
+
+        public int getRefreshAheadHits() {
+            return refreshAheadHits;
+        }
+
+        public void setRefreshAheadHits(int refreshAheadHits) {
+            this.refreshAheadHits = refreshAheadHits;
+        }
+
+        public double getRefreshAheadRatio() {
+            return refreshAheadRatio;
+        }
+
+        public void setRefreshAheadRatio(double refreshAheadRatio) {
+            this.refreshAheadRatio = refreshAheadRatio;
+        }
+
+        public int getRefreshPoolSize() {
+            return refreshPoolSize;
+        }
+
+        public void setRefreshPoolSize(int refreshPoolSize) {
+            this.refreshPoolSize = refreshPoolSize;
+        }
+
+        public int getRefreshQueueCapacity() {
+            return refreshQueueCapacity;
+        }
+
+        public void setRefreshQueueCapacity(int refreshQueueCapacity) {
+            this.refreshQueueCapacity = refreshQueueCapacity;
+        }
+    }
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -115,4 +334,20 @@ public class RedissonProperties {
     public void setSentinelServersConfig(SentinelServersConfig sentinelServersConfig) {
         this.sentinelServersConfig = sentinelServersConfig;
     }
+
+    public CodecProperties getCodec() {
+        return codec;
+    }
+
+    public void setCodec(CodecProperties codec) {
+        this.codec = codec;
+    }
+
+    public LoaderProperties getLoader() {
+        return loader;
+    }
+
+    public void setLoader(LoaderProperties loader) {
+        this.loader = loader;
+    }
 }
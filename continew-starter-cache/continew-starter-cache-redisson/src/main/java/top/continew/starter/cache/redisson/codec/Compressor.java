@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.cache.redisson.codec;
+
+/**
+ * 压缩器
+ *
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public interface Compressor {
+
+    /**
+     * 获取算法标识（写入压缩数据头部，解压时据此选择压缩器，不同算法的标识不能重复）
+     *
+     * @return 算法标识
+     */
+    byte id();
+
+    /**
+     * 压缩
+     *
+     * @param src 原始数据
+     * @return 压缩后数据
+     */
+    byte[] compress(byte[] src);
+
+    /**
+     * 解压
+     *
+     * @param src            压缩数据
+     * @param originalLength 原始数据长度
+     * @return 原始数据
+     */
+    byte[] decompress(byte[] src, int originalLength);
+}
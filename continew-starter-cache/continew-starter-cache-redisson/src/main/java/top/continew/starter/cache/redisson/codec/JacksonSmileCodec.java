@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.cache.redisson.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.redisson.codec.JsonJacksonCodec;
+
+/**
+ * Jackson Smile 编解码器
+ * <p>
+ * 基于应用 ObjectMapper 的配置（模块、序列化特性等）切换为 Smile 二进制格式，体积及编解码开销均小于文本 JSON
+ * </p>
+ *
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public class JacksonSmileCodec extends JsonJacksonCodec {
+
+    public JacksonSmileCodec(ObjectMapper objectMapper) {
+        super(objectMapper.copyWith(new SmileFactory()));
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.cache.redisson.codec;
+
+import cn.hutool.core.util.ClassLoaderUtil;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.redisson.client.codec.BaseCodec;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 阈值压缩编解码器
+ * <p>
+ * 包装内部编解码器，序列化结果达到阈值时才进行压缩，小对象保持原样，避免压缩带来的额外 CPU 开销和体积膨胀。<br>
+ * 压缩数据格式：魔数（3 字节）+ 算法标识（1 字节）+ 原始长度（4 字节）+ 压缩数据；未压缩数据不带任何头部，因此开启或关闭压缩均可正常读取已有数据。<br>
+ * 解压时按头部中的算法标识选择压缩器（当前配置的压缩器及类路径中可用的内置压缩器），切换压缩算法后仍可读取以其他算法压缩的已有数据。
+ * </p>
+ *
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public class ThresholdCompressionCodec extends BaseCodec {
+
+    /**
+     * 魔数（首字节 0xFF 不会出现在 UTF-8 文本中，也不是 Smile 等格式的合法开头）
+     */
+    private static final byte[] MAGIC = {(byte)0xFF, 'C', 'Z'};
+
+    /**
+     * 头部长度
+     */
+    private static final int HEADER_LENGTH = MAGIC.length + 1 + Integer.BYTES;
+
+    private final Codec innerCodec;
+    private final Compressor compressor;
+    private final Map<Byte, Compressor> decompressors;
+    private final int threshold;
+    private final Encoder valueEncoder;
+    private final Decoder<Object> valueDecoder;
+    private final Encoder mapValueEncoder;
+    private final Decoder<Object> mapValueDecoder;
+
+    /**
+     * 构造方法
+     *
+     * @param innerCodec 内部编解码器
+     * @param compressor 压缩器
+     * @param threshold  压缩阈值（字节）
+     */
+    public ThresholdCompressionCodec(Codec innerCodec, Compressor compressor, int threshold) {
+        this.innerCodec = innerCodec;
+        this.compressor = compressor;
+        this.decompressors = buildDecompressors(compressor);
+        this.threshold = Math.max(threshold, 1);
+        this.valueEncoder = this.wrap(innerCodec.getValueEncoder());
+        this.valueDecoder = this.wrap(innerCodec.getValueDecoder());
+        this.mapValueEncoder = this.wrap(innerCodec.getMapValueEncoder());
+        this.mapValueDecoder = this.wrap(innerCodec.getMapValueDecoder());
+    }
+
+    /**
+     * 构造方法（Redisson 按类加载器复制编解码器时使用）
+     *
+     * @param classLoader 类加载器
+     * @param codec       编解码器
+     * @throws ReflectiveOperationException 复制内部编解码器失败
+     */
+    public ThresholdCompressionCodec(ClassLoader classLoader,
+                                     ThresholdCompressionCodec codec) throws ReflectiveOperationException {
+        this(copy(classLoader, codec.innerCodec), codec.compressor, codec.threshold);
+    }
+
+    @Override
+    public Decoder<Object> getValueDecoder() {
+        return valueDecoder;
+    }
+
+    @Override
+    public Encoder getValueEncoder() {
+        return valueEncoder;
+    }
+
+    @Override
+    public Decoder<Object> getMapValueDecoder() {
+        return mapValueDecoder;
+    }
+
+    @Override
+    public Encoder getMapValueEncoder() {
+        return mapValueEncoder;
+    }
+
+    @Override
+    public Decoder<Object> getMapKeyDecoder() {
+        return innerCodec.getMapKeyDecoder();
+    }
+
+    @Override
+    public Encoder getMapKeyEncoder() {
+        return innerCodec.getMapKeyEncoder();
+    }
+
+    @Override
+    public ClassLoader getClassLoader() {
+        return innerCodec.getClassLoader();
+    }
+
+    /**
+     * 包装编码器
+     *
+     * @param encoder 内部编码器
+     * @return 编码器
+     */
+    private Encoder wrap(Encoder encoder) {
+        return in -> {
+            ByteBuf raw = encoder.encode(in);
+            int length = raw.readableBytes();
+            if (length < threshold) {
+                return raw;
+            }
+            byte[] compressed;
+            try {
+                compressed = compressor.compress(ByteBufUtil.getBytes(raw));
+            } finally {
+                raw.release();
+            }
+            ByteBuf out = ByteBufAllocator.DEFAULT.buffer(HEADER_LENGTH + compressed.length);
+            out.writeBytes(MAGIC);
+            out.writeByte(compressor.id());
+            out.writeInt(length);
+            out.writeBytes(compressed);
+            return out;
+        };
+    }
+
+    /**
+     * 包装解码器
+     *
+     * @param decoder 内部解码器
+     * @return 解码器
+     */
+    private Decoder<Object> wrap(Decoder<Object> decoder) {
+        return (buf, state) -> {
+            if (!isCompressed(buf)) {
+                return decoder.decode(buf, state);
+            }
+            buf.skipBytes(MAGIC.length);
+            byte id = buf.readByte();
+            Compressor decompressor = decompressors.get(id);
+            if (null == decompressor) {
+                throw new IOException("Unsupported compression algorithm [%d], please check the compression dependency"
+                    .formatted(id));
+            }
+            int length = buf.readInt();
+            byte[] compressed = new byte[buf.readableBytes()];
+            buf.readBytes(compressed);
+            ByteBuf raw = Unpooled.wrappedBuffer(decompressor.decompress(compressed, length));
+            return decoder.decode(raw, state);
+        };
+    }
+
+    /**
+     * 构建解压器注册表（Key：算法标识）
+     *
+     * @param compressor 当前配置的压缩器
+     * @return 解压器注册表
+     */
+    private static Map<Byte, Compressor> buildDecompressors(Compressor compressor) {
+        Map<Byte, Compressor> decompressors = new HashMap<>(4);
+        if (ClassLoaderUtil.isPresent("net.jpountz.lz4.LZ4Factory")) {
+            Compressor lz4Compressor = new Lz4Compressor();
+            decompressors.put(lz4Compressor.id(), lz4Compressor);
+        }
+        if (ClassLoaderUtil.isPresent("com.github.luben.zstd.Zstd")) {
+            Compressor zstdCompressor = new ZstdCompressor();
+            decompressors.put(zstdCompressor.id(), zstdCompressor);
+        }
+        // 当前配置的压缩器优先（可能为自定义实现或不同参数）
+        decompressors.put(compressor.id(), compressor);
+        return decompressors;
+    }
+
+    /**
+     * 是否为压缩数据
+     *
+     * @param buf 数据
+     * @return 是否为压缩数据
+     */
+    private static boolean isCompressed(ByteBuf buf) {
+        if (buf.readableBytes() < HEADER_LENGTH) {
+            return false;
+        }
+        int index = buf.readerIndex();
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (buf.getByte(index + i) != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.cache.redisson.codec;
+
+import com.github.luben.zstd.Zstd;
+
+/**
+ * Zstandard 压缩器（压缩率高于 LZ4，适合大对象、内存敏感的缓存场景）
+ *
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public class ZstdCompressor implements Compressor {
+
+    /**
+     * 默认压缩级别
+     */
+    private static final int DEFAULT_LEVEL = 3;
+
+    private final int level;
+
+    public ZstdCompressor() {
+        this(DEFAULT_LEVEL);
+    }
+
+    public ZstdCompressor(int level) {
+        this.level = level;
+    }
+
+    @Override
+    public byte id() {
+        return 2;
+    }
+
+    @Override
+    public byte[] compress(byte[] src) {
+        return Zstd.compress(src, level);
+    }
+
+    @Override
+    public byte[] decompress(byte[] src, int originalLength) {
+        return Zstd.decompress(src, originalLength);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.cache.redisson.core;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 缓存加载器缓存项
+ * <p>
+ * 除缓存值外，记录加载耗时及过期时间，用于概率提前刷新（XFetch）及提前刷新判断
+ * </p>
+ *
+ * @param <T> 值类型
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public class RedisCacheEntry<T> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 缓存值
+     */
+    private T value;
+
+    /**
+     * 加载耗时（单位：毫秒）
+     */
+    private long delta;
+
+    /**
+     * 过期时间（时间戳，单位：毫秒，Long.MAX_VALUE 表示永不过期）
+     */
+    private long expireAt;
+
+    public RedisCacheEntry() {
+    }
+
+    public RedisCacheEntry(T value, long delta, long expireAt) {
+        this.value = value;
+        this.delta = delta;
+        this.expireAt = expireAt;
+    }
+
+    public T getValue() {
+        return value;
+    }
+
+    public void setValue(T value) {
+        this.value = value;
+    }
+
+    public long getDelta() {
+        return delta;
+    }
+
+    public void setDelta(long delta) {
+        this.delta = delta;
+    }
+
+    public long getExpireAt() {
+        return expireAt;
+    }
+
+    public void setExpireAt(long expireAt) {
+        this.expireAt = expireAt;
+    }
+}
@@ -0,0 +1,411 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.cache.redisson.core;
+
+import cn.hutool.cache.CacheUtil;
+import cn.hutool.cache.impl.LRUCache;
+import cn.hutool.core.thread.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import top.continew.starter.cache.redisson.util.RedisUtils;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Redis 缓存加载器（防缓存击穿）
+ * <p>
+ * 1.单飞加载：同一节点同一个 key 同一时刻只加载一次，其他并发请求等待并共享结果；可选通过分布式锁（RedisUtils.tryLock）在节点间互斥加载<br>
+ * 2.概率提前刷新（XFetch）：越接近过期、加载耗时越长，越有可能提前触发刷新，避免大量请求在过期瞬间同时未命中<br>
+ * 3.热点提前刷新：自上次加载以来命中次数达到阈值且剩余有效期低于一定比例时，在后台刷新<br>
+ * 提前刷新均在后台执行，当前请求直接返回现有值。缓存值以 {@link RedisCacheEntry} 形式存储，同一个 key 请勿与 RedisUtils.set 混用。
+ * </p>
+ *
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public class RedisCacheLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisCacheLoader.class);
+
+    /**
+     * 分布式锁 key 后缀
+     */
+    private static final String LOCK_SUFFIX = ":loader-lock";
+
+    /**
+     * 命中计数最大 key 数量
+     */
+    private static final int MAX_HIT_COUNTER_SIZE = 10000;
+
+    /**
+     * 默认后台刷新线程数
+     */
+    private static final int DEFAULT_REFRESH_POOL_SIZE = 2;
+
+    /**
+     * 默认后台刷新队列容量
+     */
+    private static final int DEFAULT_REFRESH_QUEUE_CAPACITY = 100;
+
+    private final boolean distributedLockEnabled;
+    private final Duration lockWaitTime;
+    private final Duration lockLeaseTime;
+    private final double beta;
+    private final int refreshAheadHits;
+    private final double refreshAheadRatio;
+    private final Executor executor;
+    private final boolean executorOwned;
+    private final SingleFlight singleFlight = new SingleFlight();
+    private final LRUCache<String, LongAdder> hitCounters = CacheUtil.newLRUCache(MAX_HIT_COUNTER_SIZE);
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder earlyRefreshCount = new LongAdder();
+    private final LongAdder refreshAheadCount = new LongAdder();
+
+    public RedisCacheLoader() {
+        this(false, Duration.ofSeconds(3), Duration.ofSeconds(30), 1.0, 0, 0.2, DEFAULT_REFRESH_POOL_SIZE,
+            DEFAULT_REFRESH_QUEUE_CAPACITY);
+    }
+
+    /**
+     * 构造方法（创建有界的后台刷新执行器，并在 {@link #shutdown()} 时关闭）
+     *
+     * @param distributedLockEnabled 是否启用分布式锁
+     * @param lockWaitTime           分布式锁等待时间（超时后仍未获取到锁则直接加载）
+     * @param lockLeaseTime          分布式锁持有时间（应大于加载耗时）
+     * @param beta                   XFetch 系数（越大越早刷新，小于等于 0 表示禁用）
+     * @param refreshAheadHits       热点提前刷新命中次数阈值（小于等于 0 表示禁用）
+     * @param refreshAheadRatio      热点提前刷新剩余有效期比例（0~1）
+     * @param refreshPoolSize        后台刷新线程数
+     * @param refreshQueueCapacity   后台刷新队列容量
+     */
+    public RedisCacheLoader(boolean distributedLockEnabled,
+                            Duration lockWaitTime,
+                            Duration lockLeaseTime,
+                            double beta,
+                            int refreshAheadHits,
+                            double refreshAheadRatio,
+                            int refreshPoolSize,
+                            int refreshQueueCapacity) {
+        this(distributedLockEnabled, lockWaitTime, lockLeaseTime, beta, refreshAheadHits, refreshAheadRatio,
+            createRefreshExecutor(refreshPoolSize, refreshQueueCapacity), true);
+    }
+
+    /**
+     * 构造方法
+     *
+     * @param distributedLockEnabled 是否启用分布式锁
+     * @param lockWaitTime           分布式锁等待时间（超时后仍未获取到锁则直接加载）
+     * @param lockLeaseTime          分布式锁持有时间（应大于加载耗时）
+     * @param beta                   XFetch 系数（越大越早刷新，小于等于 0 表示禁用）
+     * @param refreshAheadHits       热点提前刷新命中次数阈值（小于等于 0 表示禁用）
+     * @param refreshAheadRatio      热点提前刷新剩余有效期比例（0~1）
+     * @param executor               后台刷新执行器（由调用方管理生命周期，建议使用有界执行器）
+     */
+    public RedisCacheLoader(boolean distributedLockEnabled,
+                            Duration lockWaitTime,
+                            Duration lockLeaseTime,
+                            double beta,
+                            int refreshAheadHits,
+                            double refreshAheadRatio,
+                            Executor executor) {
+        this(distributedLockEnabled, lockWaitTime, lockLeaseTime, beta, refreshAheadHits, refreshAheadRatio,
+            Objects.requireNonNull(executor, "executor must not be null"), false);
+    }
+
+    private RedisCacheLoader(boolean distributedLockEnabled,
+                             Duration lockWaitTime,
+                             Duration lockLeaseTime,
+                             double beta,
+                             int refreshAheadHits,
+                             double refreshAheadRatio,
+                             Executor executor,
+                             boolean executorOwned) {
+        this.distributedLockEnabled = distributedLockEnabled;
+        this.lockWaitTime = lockWaitTime;
+        this.lockLeaseTime = lockLeaseTime;
+        this.beta = beta;
+        this.refreshAheadHits = refreshAheadHits;
+        this.refreshAheadRatio = refreshAheadRatio;
+        this.executor = executor;
+        this.executorOwned = executorOwned;
+    }
+
+    /**
+     * 创建后台刷新执行器
+     * <p>
+     * 有界执行器：线程数、队列容量固定，超出时拒绝执行（提前刷新是可选的，被拒绝时跳过本次刷新，由后续请求再次触发）；
+     * 使用守护线程且空闲线程超时回收。
+     * </p>
+     *
+     * @param poolSize      线程数
+     * @param queueCapacity 队列容量
+     * @return 后台刷新执行器
+     */
+    private static ThreadPoolExecutor createRefreshExecutor(int poolSize, int queueCapacity) {
+        ThreadFactory threadFactory = ThreadFactoryBuilder.create()
+            .setNamePrefix("redis-cache-loader-")
+            .setDaemon(true)
+            .build();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * 关闭加载器（仅关闭由加载器创建的后台刷新执行器，外部传入的执行器由调用方管理）
+     */
+    public void shutdown() {
+        if (executorOwned && executor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * 获取缓存值（未命中时加载并写入缓存）
+     *
+     * @param key    键
+     * @param ttl    过期时间（为空表示永不过期）
+     * @param loader 加载器（返回 null 时同样会缓存，避免缓存穿透）
+     * @param <T>    值类型
+     * @return 值
+     */
+    public <T> T get(String key, Duration ttl, Supplier<T> loader) {
+        RedisCacheEntry<T> entry = RedisUtils.get(key);
+        if (null == entry) {
+            missCount.increment();
+            return singleFlight.execute(key, () -> this.loadOnMiss(key, ttl, loader));
+        }
+        hitCount.increment();
+        if (this.shouldEarlyRefresh(entry)) {
+            earlyRefreshCount.increment();
+            this.refreshAsync(key, ttl, loader, entry.getExpireAt());
+        } else if (this.shouldRefreshAhead(key, ttl, entry)) {
+            refreshAheadCount.increment();
+            this.refreshAsync(key, ttl, loader, entry.getExpireAt());
+        }
+        return entry.getValue();
+    }
+
+    /**
+     * 失效缓存
+     *
+     * @param key 键
+     * @return true：成功；false：失败
+     */
+    public boolean evict(String key) {
+        hitCounters.remove(key);
+        return RedisUtils.delete(key);
+    }
+
+    /**
+     * 获取命中次数
+     *
+     * @return 命中次数
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * 获取未命中次数
+     *
+     * @return 未命中次数
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * 获取实际加载次数（包括后台刷新）
+     *
+     * @return 实际加载次数
+     */
+    public long getLoadCount() {
+        return singleFlight.getLoadCount();
+    }
+
+    /**
+     * 获取合并加载次数（等待并共享其他请求加载结果的次数）
+     *
+     * @return 合并加载次数
+     */
+    public long getCoalescedLoadCount() {
+        return singleFlight.getCoalescedCount();
+    }
+
+    /**
+     * 获取概率提前刷新（XFetch）次数
+     *
+     * @return 概率提前刷新次数
+     */
+    public long getEarlyRefreshCount() {
+        return earlyRefreshCount.sum();
+    }
+
+    /**
+     * 获取热点提前刷新次数
+     *
+     * @return 热点提前刷新次数
+     */
+    public long getRefreshAheadCount() {
+        return refreshAheadCount.sum();
+    }
+
+    /**
+     * 未命中时加载（启用分布式锁时，获取到锁后再次检查缓存，避免其他节点已加载）
+     *
+     * @param key    键
+     * @param ttl    过期时间
+     * @param loader 加载器
+     * @param <T>    值类型
+     * @return 值
+     */
+    private <T> T loadOnMiss(String key, Duration ttl, Supplier<T> loader) {
+        if (!distributedLockEnabled) {
+            return this.load(key, ttl, loader);
+        }
+        String lockKey = key + LOCK_SUFFIX;
+        boolean locked = RedisUtils.tryLock(lockKey, lockLeaseTime.toMillis(), lockWaitTime
+            .toMillis(), TimeUnit.MILLISECONDS);
+        try {
+            RedisCacheEntry<T> entry = RedisUtils.get(key);
+            if (null != entry) {
+                return entry.getValue();
+            }
+            return this.load(key, ttl, loader);
+        } finally {
+            if (locked) {
+                RedisUtils.unlock(lockKey);
+            }
+        }
+    }
+
+    /**
+     * 后台刷新（同一个 key 正在加载时不重复刷新；启用分布式锁时，其他节点正在刷新或已刷新则跳过）
+     *
+     * @param key            键
+     * @param ttl            过期时间
+     * @param loader         加载器
+     * @param expectExpireAt 触发刷新时缓存项的过期时间
+     * @param <T>            值类型
+     */
+    private <T> void refreshAsync(String key, Duration ttl, Supplier<T> loader, long expectExpireAt) {
+        if (singleFlight.isLoading(key)) {
+            return;
+        }
+        singleFlight.executeAsync(key, () -> {
+            if (!distributedLockEnabled) {
+                return this.load(key, ttl, loader);
+            }
+            String lockKey = key + LOCK_SUFFIX;
+            if (!RedisUtils.tryLock(lockKey, lockLeaseTime.toMillis(), 0, TimeUnit.MILLISECONDS)) {
+                return null;
+            }
+            try {
+                RedisCacheEntry<T> entry = RedisUtils.get(key);
+                if (null != entry && entry.getExpireAt() != expectExpireAt) {
+                    return entry.getValue();
+                }
+                return this.load(key, ttl, loader);
+            } finally {
+                RedisUtils.unlock(lockKey);
+            }
+        }, executor).exceptionally(e -> {
+            if (e instanceof RejectedExecutionException) {
+                log.debug("Refresh cache [{}] skipped, refresh executor is busy.", key);
+            } else {
+                log.warn("Refresh cache [{}] failed.", key, e);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 加载并写入缓存
+     *
+     * @param key    键
+     * @param ttl    过期时间
+     * @param loader 加载器
+     * @param <T>    值类型
+     * @return 值
+     */
+    private <T> T load(String key, Duration ttl, Supplier<T> loader) {
+        long start = System.currentTimeMillis();
+        T value = loader.get();
+        long now = System.currentTimeMillis();
+        boolean expirable = null != ttl && !ttl.isZero() && !ttl.isNegative();
+        RedisCacheEntry<T> entry = new RedisCacheEntry<>(value, now - start, expirable
+            ? now + ttl.toMillis()
+            : Long.MAX_VALUE);
+        if (expirable) {
+            RedisUtils.set(key, entry, ttl);
+        } else {
+            RedisUtils.set(key, entry);
+        }
+        hitCounters.remove(key);
+        return value;
+    }
+
+    /**
+     * 是否概率提前刷新（XFetch：now - delta * beta * ln(random) >= expireAt）
+     *
+     * @param entry 缓存项
+     * @return 是否概率提前刷新
+     */
+    private boolean shouldEarlyRefresh(RedisCacheEntry<?> entry) {
+        if (beta <= 0 || entry.getExpireAt() == Long.MAX_VALUE || entry.getDelta() <= 0) {
+            return false;
+        }
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+        double gap = -entry.getDelta() * beta * Math.log(random);
+        return System.currentTimeMillis() + gap >= entry.getExpireAt();
+    }
+
+    /**
+     * 是否热点提前刷新（自上次加载以来命中次数达到阈值，且剩余有效期低于一定比例）
+     *
+     * @param key   键
+     * @param ttl   过期时间
+     * @param entry 缓存项
+     * @return 是否热点提前刷新
+     */
+    private boolean shouldRefreshAhead(String key, Duration ttl, RedisCacheEntry<?> entry) {
+        if (refreshAheadHits <= 0 || entry.getExpireAt() == Long.MAX_VALUE || null == ttl) {
+            return false;
+        }
+        LongAdder counter = hitCounters.get(key, false, LongAdder::new);
+        counter.increment();
+        if (counter.sum() < refreshAheadHits) {
+            return false;
+        }
+        long remaining = entry.getExpireAt() - System.currentTimeMillis();
+        return remaining <= ttl.toMillis() * refreshAheadRatio;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.cache.redisson.core;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 单飞（Single Flight）
+ * <p>
+ * 同一个 key 同一时刻只执行一次加载，其他并发请求等待并共享该次加载结果（合并加载），避免热点 key 失效时大量请求同时穿透到数据源。
+ * </p>
+ *
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public class SingleFlight {
+
+    private final Map<String, CompletableFuture<Object>> calls = new ConcurrentHashMap<>();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+
+    /**
+     * 执行加载（同一个 key 正在加载时，等待并返回该次加载结果）
+     *
+     * @param key    键
+     * @param loader 加载器
+     * @param <T>    值类型
+     * @return 值
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> loader) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = calls.putIfAbsent(key, future);
+        if (null != existing) {
+            coalescedCount.increment();
+            return (T)join(existing);
+        }
+        loadCount.increment();
+        try {
+            T value = loader.get();
+            future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, future);
+        }
+    }
+
+    /**
+     * 异步执行加载（同一个 key 正在加载时，直接返回该次加载的 Future）
+     *
+     * @param key      键
+     * @param loader   加载器
+     * @param executor 执行器
+     * @param <T>      值类型
+     * @return 加载结果
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> executeAsync(String key, Supplier<T> loader, Executor executor) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = calls.putIfAbsent(key, future);
+        if (null != existing) {
+            coalescedCount.increment();
+            return (CompletableFuture<T>)existing;
+        }
+        loadCount.increment();
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(loader.get());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    calls.remove(key, future);
+                }
+            });
+        } catch (RuntimeException e) {
+            // 执行器拒绝执行
+            calls.remove(key, future);
+            future.completeExceptionally(e);
+        }
+        return (CompletableFuture<T>)future;
+    }
+
+    /**
+     * 是否正在加载
+     *
+     * @param key 键
+     * @return 是否正在加载
+     */
+    public boolean isLoading(String key) {
+        return calls.containsKey(key);
+    }
+
+    /**
+     * 获取实际加载次数
+     *
+     * @return 实际加载次数
+     */
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    /**
+     * 获取合并加载次数（等待并共享其他请求加载结果的次数）
+     *
+     * @return 合并加载次数
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    /**
+     * 等待加载结果
+     *
+     * @param future 加载结果
+     * @return 值
+     */
+    private static Object join(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.cache.redisson.util;
+
+import cn.hutool.extra.spring.SpringUtil;
+import org.redisson.api.*;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 异步工具类
+ * <p>
+ * 基于 Redisson 异步 API，所有方法立即返回 {@link CompletionStage}，不阻塞调用线程，可同时发起多个 Redis 操作后再合并结果，
+ * 适用于虚拟线程、响应式等场景。如需 Reactor 风格 API，可通过 {@link #reactive()} 获取响应式客户端。
+ * </p>
+ *
+ * @author Charles7c
+ * @see RedisUtils
+ * @since 2.7.5
+ */
+public class AsyncRedisUtils {
+
+    private static final RedissonClient CLIENT = SpringUtil.getBean(RedissonClient.class);
+
+    private AsyncRedisUtils() {
+    }
+
+    /**
+     * 设置缓存
+     *
+     * @param key   键
+     * @param value 值
+     * @return 异步结果
+     */
+    public static <T> CompletionStage<Void> set(String key, T value) {
+        return CLIENT.getBucket(key).setAsync(value);
+    }
+
+    /**
+     * 设置缓存
+     *
+     * @param key      键
+     * @param value    值
+     * @param duration 过期时间
+     * @return 异步结果
+     */
+    public static <T> CompletionStage<Void> set(String key, T value, Duration duration) {
+        return CLIENT.getBucket(key).setAsync(value, duration);
+    }
+
+    /**
+     * 查询指定缓存
+     *
+     * @param key 键
+     * @return 值
+     */
+    public static <T> CompletionStage<T> get(String key) {
+        RBucket<T> bucket = CLIENT.getBucket(key);
+        return bucket.getAsync();
+    }
+
+    /**
+     * 批量查询缓存（MGET）
+     *
+     * @param keys 键列表
+     * @return 键值映射（不包含不存在的键）
+     */
+    public static <T> CompletionStage<Map<String, T>> mGet(Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyMap());
+        }
+        return CLIENT.getBuckets().getAsync(keys.toArray(new String[0]));
+    }
+
+    /**
+     * 批量设置缓存（MSET）
+     *
+     * @param map 键值映射
+     * @return 异步结果
+     */
+    public static <T> CompletionStage<Void> mSet(Map<String, T> map) {
+        if (map == null || map.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CLIENT.getBuckets().setAsync(map);
+    }
+
+    /**
+     * 删除缓存
+     *
+     * @param key 键
+     * @return true：删除成功；false：删除失败
+     */
+    public static CompletionStage<Boolean> delete(String key) {
+        return CLIENT.getBucket(key).deleteAsync();
+    }
+
+    /**
+     * 批量删除缓存
+     *
+     * @param keys 键列表
+     * @return 删除数量
+     */
+    public static CompletionStage<Long> delete(Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return CompletableFuture.completedFuture(0L);
+        }
+        return CLIENT.getKeys().deleteAsync(keys.toArray(new String[0]));
+    }
+
+    /**
+     * 递增 1
+     *
+     * @param key 键
+     * @return 当前值
+     */
+    public static CompletionStage<Long> incr(String key) {
+        return CLIENT.getAtomicLong(key).incrementAndGetAsync();
+    }
+
+    /**
+     * 递减 1
+     *
+     * @param key 键
+     * @return 当前值
+     */
+    public static CompletionStage<Long> decr(String key) {
+        return CLIENT.getAtomicLong(key).decrementAndGetAsync();
+    }
+
+    /**
+     * 设置缓存过期时间
+     *
+     * @param key      键
+     * @param duration 过期时间
+     * @return true：设置成功；false：设置失败
+     */
+    public static CompletionStage<Boolean> expire(String key, Duration duration) {
+        return CLIENT.getBucket(key).expireAsync(duration);
+    }
+
+    /**
+     * 查询缓存剩余过期时间
+     *
+     * @param key 键
+     * @return 缓存剩余过期时间（单位：毫秒）
+     */
+    public static CompletionStage<Long> getTimeToLive(String key) {
+        return CLIENT.getBucket(key).remainTimeToLiveAsync();
+    }
+
+    /**
+     * 是否存在指定缓存
+     *
+     * @param key 键
+     * @return true：存在；false：不存在
+     */
+    public static CompletionStage<Boolean> exists(String key) {
+        return CLIENT.getBucket(key).isExistsAsync();
+    }
+
+    /**
+     * 添加元素到 ZSet 中
+     *
+     * @param key   键
+     * @param value 值
+     * @param score 分数
+     * @return true：添加成功；false：添加失败
+     */
+    public static <T> CompletionStage<Boolean> zAdd(String key, T value, double score) {
+        RScoredSortedSet<T> zSet = CLIENT.getScoredSortedSet(key);
+        return zSet.addAsync(score, value);
+    }
+
+    /**
+     * 查询 ZSet 中指定元素的分数
+     *
+     * @param key   键
+     * @param value 值
+     * @return 分数（null 表示元素不存在）
+     */
+    public static <T> CompletionStage<Double> zScore(String key, T value) {
+        RScoredSortedSet<T> zSet = CLIENT.getScoredSortedSet(key);
+        return zSet.getScoreAsync(value);
+    }
+
+    /**
+     * 删除 ZSet 中的指定元素
+     *
+     * @param key   键
+     * @param value 值
+     * @return true：删除成功；false：删除失败
+     */
+    public static <T> CompletionStage<Boolean> zRemove(String key, T value) {
+        RScoredSortedSet<T> zSet = CLIENT.getScoredSortedSet(key);
+        return zSet.removeAsync(value);
+    }
+
+    /**
+     * 尝试获取锁
+     * <p>
+     * 异步场景下回调线程与调用线程不一定相同，因此需显式指定锁持有者标识，释放锁时使用相同的标识
+     * </p>
+     *
+     * @param key        键
+     * @param expireTime 锁过期时间
+     * @param timeout    获取锁超时时间
+     * @param unit       时间单位
+     * @param threadId   锁持有者标识
+     * @return true：成功；false：失败
+     */
+    public static CompletionStage<Boolean> tryLock(String key,
+                                                   long expireTime,
+                                                   long timeout,
+                                                   TimeUnit unit,
+                                                   long threadId) {
+        return CLIENT.getLock(key).tryLockAsync(timeout, expireTime, unit, threadId);
+    }
+
+    /**
+     * 释放锁
+     *
+     * @param key      键
+     * @param threadId 锁持有者标识（与获取锁时一致）
+     * @return 异步结果
+     */
+    public static CompletionStage<Void> unlock(String key, long threadId) {
+        return CLIENT.getLock(key).unlockAsync(threadId);
+    }
+
+    /**
+     * 获取响应式客户端（Reactor 风格 API）
+     *
+     * @return 响应式客户端
+     */
+    public static RedissonReactiveClient reactive() {
+        return CLIENT.reactive();
+    }
+
+}
@@ -16,16 +16,33 @@
 
 package top.continew.starter.cache.redisson.util;
 
+import cn.hutool.core.thread.ThreadFactoryBuilder;
 import cn.hutool.core.util.ArrayUtil;
 import cn.hutool.extra.spring.SpringUtil;
 import org.redisson.api.*;
 import top.continew.starter.core.constant.StringConstants;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.concurrent.ExecutionException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Redis 工具类
@@ -37,9 +54,55 @@ public class RedisUtils {
 
     private static final RedissonClient CLIENT = SpringUtil.getBean(RedissonClient.class);
 
+    /**
+     * 默认批次大小（SCAN 的 COUNT 提示值、每次 UNLINK 的键数量）
+     */
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+
+    /**
+     * 默认异步执行线程池（用于按模式删除等耗时的键空间遍历操作）
+     * <p>
+     * 有界线程池：线程数、队列容量固定，超出时拒绝提交；使用守护线程且空闲线程超时回收，无需显式关闭。
+     * 需要更大并发或由容器管理生命周期时，请使用可指定执行线程池的重载方法。
+     * </p>
+     */
+    private static final ThreadPoolExecutor DEFAULT_EXECUTOR = createDefaultExecutor();
+
+    /**
+     * 仅当键存在时更新值，并保留剩余过期时间（兼容 Redis 6.0 以下版本，不使用 KEEPTTL）
+     */
+    private static final String SET_KEEP_TTL_SCRIPT = """
+        local ttl = redis.call('pttl', KEYS[1])
+        if ttl == -2 then
+            return 0
+        end
+        if ttl == -1 then
+            redis.call('set', KEYS[1], ARGV[1])
+        else
+            redis.call('set', KEYS[1], ARGV[1], 'px', ttl)
+        end
+        return 1
+        """;
+
     private RedisUtils() {
     }
 
+    /**
+     * 创建默认异步执行线程池
+     *
+     * @return 默认异步执行线程池
+     */
+    private static ThreadPoolExecutor createDefaultExecutor() {
+        ThreadFactory threadFactory = ThreadFactoryBuilder.create()
+            .setNamePrefix("redis-utils-")
+            .setDaemon(true)
+            .build();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(64),
+            threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     /**
      * 设置缓存
      *
@@ -72,6 +135,61 @@ public class RedisUtils {
         return bucket.get();
     }
 
+    /**
+     * 批量查询缓存（MGET，一次网络往返）
+     *
+     * @param keys 键列表
+     * @return 键值映射（不包含不存在的键）
+     * @since 2.7.5
+     */
+    public static <T> Map<String, T> mGet(Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return CLIENT.getBuckets().get(keys.toArray(new String[0]));
+    }
+
+    /**
+     * 批量设置缓存（MSET，一次网络往返）
+     *
+     * @param map 键值映射
+     * @since 2.7.5
+     */
+    public static <T> void mSet(Map<String, T> map) {
+        if (map == null || map.isEmpty()) {
+            return;
+        }
+        CLIENT.getBuckets().set(map);
+    }
+
+    /**
+     * 批量设置缓存（管道批量执行，一次网络往返）
+     *
+     * @param map      键值映射
+     * @param duration 过期时间
+     * @since 2.7.5
+     */
+    public static <T> void mSet(Map<String, T> map, Duration duration) {
+        if (map == null || map.isEmpty()) {
+            return;
+        }
+        pipeline(batch -> map.forEach((key, value) -> batch.getBucket(key).setAsync(value, duration)));
+    }
+
+    /**
+     * 更新缓存（仅当键存在时更新值，并保留剩余过期时间，原子操作，一次网络往返）
+     *
+     * @param key   键
+     * @param value 值
+     * @return true：更新成功；false：键不存在
+     * @since 2.7.5
+     */
+    public static <T> boolean setKeepTtl(String key, T value) {
+        return CLIENT.getScript()
+            .eval(key, RScript.Mode.READ_WRITE, SET_KEEP_TTL_SCRIPT, RScript.ReturnType.BOOLEAN, List
+                .of(key), value);
+    }
+
     /**
      * 设置缓存（List 集合）
      *
@@ -122,6 +240,20 @@ public class RedisUtils {
         return CLIENT.getBucket(key).delete();
     }
 
+    /**
+     * 批量删除缓存（DEL，一次网络往返）
+     *
+     * @param keys 键列表
+     * @return 删除数量
+     * @since 2.7.5
+     */
+    public static long delete(Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return 0;
+        }
+        return CLIENT.getKeys().delete(keys.toArray(new String[0]));
+    }
+
     /**
      * 删除缓存
      *
@@ -131,6 +263,65 @@ public class RedisUtils {
         CLIENT.getKeys().deleteByPattern(pattern);
     }
 
+    /**
+     * 异步删除缓存（按 SCAN 游标分批迭代，每批使用 UNLINK 删除，不阻塞调用线程）
+     *
+     * <p>
+     * 使用有界的默认线程池执行，线程池已满时返回的 {@link CompletableFuture} 以 {@link RejectedExecutionException} 异常完成
+     * </p>
+     *
+     * @param pattern 键模式
+     * @return 删除数量（可通过 {@link CompletableFuture#cancel(boolean)} 取消，已删除的键不会恢复）
+     * @since 2.7.5
+     */
+    public static CompletableFuture<Long> deleteByPatternAsync(String pattern) {
+        return deleteByPatternAsync(pattern, DEFAULT_BATCH_SIZE, null, DEFAULT_EXECUTOR);
+    }
+
+    /**
+     * 异步删除缓存（按 SCAN 游标分批迭代，每批使用 UNLINK 删除，不阻塞调用线程）
+     * <p>
+     * UNLINK 在 Redis 后台线程中释放内存，配合较小的批次大小，可避免删除大量键时阻塞 Redis
+     * </p>
+     *
+     * @param pattern   键模式
+     * @param batchSize 批次大小（SCAN 的 COUNT 提示值、每次 UNLINK 的键数量）
+     * @param progress  进度回调（每删除一批回调一次，参数为累计删除数量，可为 {@code null}）
+     * @param executor  执行线程池
+     * @return 删除数量（可通过 {@link CompletableFuture#cancel(boolean)} 取消，已删除的键不会恢复）
+     * @since 2.7.5
+     */
+    public static CompletableFuture<Long> deleteByPatternAsync(String pattern,
+                                                               int batchSize,
+                                                               LongConsumer progress,
+                                                               Executor executor) {
+        CompletableFuture<Long> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    long[] deleted = {0};
+                    scanKeys(pattern, batchSize, keys -> {
+                        // 已取消时停止迭代
+                        if (future.isDone()) {
+                            return false;
+                        }
+                        deleted[0] += CLIENT.getKeys().unlink(keys.toArray(new String[0]));
+                        if (null != progress) {
+                            progress.accept(deleted[0]);
+                        }
+                        return true;
+                    });
+                    future.complete(deleted[0]);
+                } catch (Exception e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
     /**
      * 递增 1
      *
@@ -164,6 +355,17 @@ public class RedisUtils {
         return CLIENT.getBucket(key).expire(duration);
     }
 
+    /**
+     * 移除缓存过期时间（设置为永不过期）
+     *
+     * @param key 键
+     * @return true：移除成功；false：键不存在或未设置过期时间
+     * @since 2.7.5
+     */
+    public static boolean persist(String key) {
+        return CLIENT.getBucket(key).clearExpire();
+    }
+
     /**
      * 查询缓存剩余过期时间
      *
@@ -184,6 +386,32 @@ public class RedisUtils {
         return CLIENT.getKeys().countExists(key) > 0;
     }
 
+    /**
+     * 过滤出存在的缓存（管道批量执行，一次网络往返）
+     *
+     * @param keys 键列表
+     * @return 存在的键集合
+     * @since 2.7.5
+     */
+    public static Set<String> filterExists(Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Map<String, RFuture<Boolean>> futureMap = new LinkedHashMap<>(keys.size());
+        pipeline(batch -> {
+            for (String key : keys) {
+                futureMap.put(key, batch.getBucket(key).isExistsAsync());
+            }
+        });
+        Set<String> existKeys = new LinkedHashSet<>(keys.size());
+        futureMap.forEach((key, future) -> {
+            if (Boolean.TRUE.equals(future.toCompletableFuture().join())) {
+                existKeys.add(key);
+            }
+        });
+        return existKeys;
+    }
+
     /**
      * 查询缓存列表
      *
@@ -194,6 +422,60 @@ public class RedisUtils {
         return CLIENT.getKeys().getKeysStreamByPattern(pattern).toList();
     }
 
+    /**
+     * 查询缓存列表（基于 SCAN 游标迭代，收集到指定数量后即停止迭代）
+     *
+     * @param pattern 键模式
+     * @param count   每次 SCAN 的 COUNT 提示值
+     * @param limit   最大数量
+     * @return 缓存列表
+     * @since 2.7.5
+     */
+    public static List<String> keys(String pattern, int count, long limit) {
+        return CLIENT.getKeys().getKeysStreamByPattern(pattern, count).limit(limit).toList();
+    }
+
+    /**
+     * 查询缓存（基于 SCAN 游标迭代的惰性流，消费时才逐批查询，不会一次性加载所有键）
+     *
+     * @param pattern 键模式
+     * @param count   每次 SCAN 的 COUNT 提示值
+     * @return 键流
+     * @since 2.7.5
+     */
+    public static Stream<String> keysStream(String pattern, int count) {
+        return CLIENT.getKeys().getKeysStreamByPattern(pattern, count);
+    }
+
+    /**
+     * 分批查询缓存（基于 SCAN 游标迭代，每收集到一批键回调一次）
+     *
+     * @param pattern   键模式
+     * @param batchSize 批次大小（同时作为 SCAN 的 COUNT 提示值）
+     * @param consumer  批次处理器（返回 false 时停止迭代）
+     * @return 已处理的键数量
+     * @since 2.7.5
+     */
+    public static long scanKeys(String pattern, int batchSize, Predicate<List<String>> consumer) {
+        long count = 0;
+        List<String> batch = new ArrayList<>(batchSize);
+        Iterator<String> iterator = keysStream(pattern, batchSize).iterator();
+        while (iterator.hasNext()) {
+            batch.add(iterator.next());
+            if (batch.size() >= batchSize) {
+                if (!consumer.test(batch)) {
+                    return count;
+                }
+                count += batch.size();
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty() && consumer.test(batch)) {
+            count += batch.size();
+        }
+        return count;
+    }
+
     /**
      * 添加元素到 ZSet 中
      *
@@ -234,6 +516,21 @@ public class RedisUtils {
         return zSet.rank(value);
     }
 
+    /**
+     * 根据排名范围查询 ZSet 中的元素列表
+     *
+     * @param key        键
+     * @param startIndex 起始排名（从 0 开始）
+     * @param endIndex   结束排名（包含，-1 表示最后一个）
+     * @param reverse    是否按分数倒序
+     * @return 元素列表
+     * @since 2.7.5
+     */
+    public static <T> Collection<T> zRangeByRank(String key, int startIndex, int endIndex, boolean reverse) {
+        RScoredSortedSet<T> zSet = CLIENT.getScoredSortedSet(key);
+        return reverse ? zSet.valueRangeReversed(startIndex, endIndex) : zSet.valueRange(startIndex, endIndex);
+    }
+
     /**
      * 查询 ZSet 中的元素个数
      *
@@ -259,6 +556,19 @@ public class RedisUtils {
         return zSet.remove(value);
     }
 
+    /**
+     * 从 ZSet 中批量删除元素
+     *
+     * @param key    键
+     * @param values 值列表
+     * @return true：删除成功；false：删除失败
+     * @since 2.7.5
+     */
+    public static <T> boolean zRemove(String key, Collection<T> values) {
+        RScoredSortedSet<T> zSet = CLIENT.getScoredSortedSet(key);
+        return zSet.removeAll(values);
+    }
+
     /**
      * 删除 ZSet 中指定分数范围内的元素
      *
@@ -335,6 +645,32 @@ public class RedisUtils {
         return zSet.count(min, true, max, true);
     }
 
+    /**
+     * 批量查询 ZSet 中指定元素的分数（管道批量执行，一次网络往返）
+     *
+     * @param key    键
+     * @param values 值列表
+     * @return 分数列表（与值列表顺序一致，null 表示元素不存在）
+     * @since 2.7.5
+     */
+    public static <T> List<Double> zScores(String key, Collection<T> values) {
+        if (values == null || values.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<RFuture<Double>> futures = new ArrayList<>(values.size());
+        pipeline(batch -> {
+            RScoredSortedSetAsync<T> zSet = batch.getScoredSortedSet(key);
+            for (T value : values) {
+                futures.add(zSet.getScoreAsync(value));
+            }
+        });
+        List<Double> scores = new ArrayList<>(futures.size());
+        for (RFuture<Double> future : futures) {
+            scores.add(future.toCompletableFuture().join());
+        }
+        return scores;
+    }
+
     /**
      * 计算 ZSet 中多个元素的分数之和
      *
@@ -344,10 +680,8 @@ public class RedisUtils {
      * @since 2.7.3
      */
     public static <T> double zSum(String key, Collection<T> values) {
-        RScoredSortedSet<T> zSet = CLIENT.getScoredSortedSet(key);
         double sum = 0;
-        for (T value : values) {
-            Double score = zSet.getScore(value);
+        for (Double score : zScores(key, values)) {
             if (score != null) {
                 sum += score;
             }
@@ -424,9 +758,10 @@ public class RedisUtils {
     public static boolean unlock(RLock lock) {
         if (lock.isHeldByCurrentThread()) {
             try {
-                lock.unlockAsync().get();
+                lock.unlock();
                 return true;
-            } catch (ExecutionException | InterruptedException e) {
+            } catch (IllegalMonitorStateException e) {
+                // 锁已过期或已被释放
                 return false;
             }
         }
@@ -453,4 +788,24 @@ public class RedisUtils {
     public static String formatKey(String... subKeys) {
         return String.join(StringConstants.COLON, ArrayUtil.removeBlank(subKeys));
     }
+
+    /**
+     * 管道批量执行（所有命令一次性发送，一次网络往返）
+     *
+     * <pre>
+     * RedisUtils.pipeline(batch -> {
+     *     batch.getBucket("key1").setAsync("value1");
+     *     batch.getAtomicLong("key2").incrementAndGetAsync();
+     * });
+     * </pre>
+     *
+     * @param consumer 批量命令
+     * @return 各命令执行结果（按添加顺序）
+     * @since 2.7.5
+     */
+    public static List<?> pipeline(Consumer<RBatch> consumer) {
+        RBatch batch = CLIENT.createBatch();
+        consumer.accept(batch);
+        return batch.execute().getResponses();
+    }
 }
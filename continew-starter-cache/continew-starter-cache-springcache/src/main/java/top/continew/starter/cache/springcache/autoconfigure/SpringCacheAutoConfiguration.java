@@ -16,28 +16,36 @@
 
 package top.continew.starter.cache.springcache.autoconfigure;
 
-import cn.hutool.core.map.MapUtil;
-import cn.hutool.core.text.CharSequenceUtil;
-import cn.hutool.crypto.digest.DigestUtil;
-import cn.hutool.json.JSONUtil;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
+import org.redisson.api.RedissonClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
 import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.interceptor.KeyGenerator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import top.continew.starter.cache.springcache.core.MultiLevelCacheManager;
+import top.continew.starter.cache.springcache.generator.DigestCacheKeyGenerator;
+import top.continew.starter.cache.springcache.generator.FastCacheKeyGenerator;
+import top.continew.starter.core.constant.PropertiesConstants;
 import top.continew.starter.core.util.GeneralPropertySourceFactory;
 
-import java.util.Map;
+import java.util.LinkedHashSet;
 
 /**
  * Spring Cache 自动配置
@@ -45,16 +53,19 @@ import java.util.Map;
  * @author Charles7c
  * @since 1.2.0
  */
-@AutoConfiguration
+@AutoConfiguration(before = CacheAutoConfiguration.class)
+@EnableConfigurationProperties({SpringCacheProperties.class, CacheProperties.class})
 @PropertySource(value = "classpath:default-cache-springcache.yml", factory = GeneralPropertySourceFactory.class)
 public class SpringCacheAutoConfiguration implements CachingConfigurer {
 
     private static final Logger log = LoggerFactory.getLogger(SpringCacheAutoConfiguration.class);
 
     private final ObjectMapper objectMapper;
+    private final SpringCacheProperties properties;
 
-    public SpringCacheAutoConfiguration(ObjectMapper objectMapper) {
+    public SpringCacheAutoConfiguration(ObjectMapper objectMapper, SpringCacheProperties properties) {
         this.objectMapper = objectMapper;
+        this.properties = properties;
     }
 
     /**
@@ -81,6 +92,42 @@ public class SpringCacheAutoConfiguration implements CachingConfigurer {
         return redisCacheConfiguration;
     }
 
+    /**
+     * Redis 缓存管理器自定义配置（按缓存名称设置过期时间）
+     */
+    @Bean
+    public RedisCacheManagerBuilderCustomizer redisCacheManagerBuilderCustomizer(RedisCacheConfiguration redisCacheConfig) {
+        return builder -> properties.getCaches().forEach((cacheName, spec) -> {
+            if (null != spec.getTtl()) {
+                builder.withCacheConfiguration(cacheName, redisCacheConfig.entryTtl(spec.getTtl()));
+            }
+        });
+    }
+
+    /**
+     * 多级缓存管理器（本地缓存 + Redis 缓存）
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = PropertiesConstants.CACHE_SPRING_CACHE + ".multi-level", name = PropertiesConstants.ENABLED, havingValue = "true")
+    public MultiLevelCacheManager multiLevelCacheManager(RedisConnectionFactory redisConnectionFactory,
+                                                         RedisCacheConfiguration redisCacheConfiguration,
+                                                         CacheProperties cacheProperties,
+                                                         ObjectProvider<RedisCacheManagerBuilderCustomizer> customizers,
+                                                         RedissonClient redissonClient) {
+        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(redisConnectionFactory)
+            .cacheDefaults(redisCacheConfiguration);
+        if (!cacheProperties.getCacheNames().isEmpty()) {
+            builder.initialCacheNames(new LinkedHashSet<>(cacheProperties.getCacheNames()));
+        }
+        if (cacheProperties.getRedis().isEnableStatistics()) {
+            builder.enableStatistics();
+        }
+        customizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+        RedisCacheManager redisCacheManager = builder.build();
+        redisCacheManager.afterPropertiesSet();
+        return new MultiLevelCacheManager(redisCacheManager, properties, redissonClient);
+    }
+
     /**
      * 自定义缓存 key 生成策略
      *
@@ -91,13 +138,9 @@ public class SpringCacheAutoConfiguration implements CachingConfigurer {
     @Bean
     @Override
     public KeyGenerator keyGenerator() {
-        return (target, method, params) -> {
-            String key = CharSequenceUtil.toUnderlineCase(method.getName()).toUpperCase();
-            Map<String, Object> paramMap = MapUtil.newHashMap(params.length);
-            for (int i = 0; i < params.length; i++) {
-                paramMap.put(String.valueOf(i), params[i]);
-            }
-            return "%s:%s".formatted(key, DigestUtil.sha256Hex(JSONUtil.toJsonStr(paramMap)));
+        return switch (properties.getKeyGenerator()) {
+            case DIGEST -> new DigestCacheKeyGenerator();
+            default -> new FastCacheKeyGenerator(objectMapper);
         };
     }
 
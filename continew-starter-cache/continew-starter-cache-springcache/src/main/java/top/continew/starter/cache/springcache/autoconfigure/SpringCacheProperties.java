@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.cache.springcache.autoconfigure;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import top.continew.starter.core.constant.PropertiesConstants;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Spring Cache 扩展配置属性
+ *
+ * @author Charles7c
+ * @since 2.7.5
+ */
+@ConfigurationProperties(PropertiesConstants.CACHE_SPRING_CACHE)
+public class SpringCacheProperties {
+
+    /**
+     * 缓存 key 生成策略（@Cacheable 未指定 key 时使用）
+     */
+    private KeyGeneratorType keyGenerator = KeyGeneratorType.FAST;
+
+    /**
+     * 多级缓存配置
+     */
+    private MultiLevelProperties multiLevel = new MultiLevelProperties();
+
+    /**
+     * 缓存配置（key 为缓存名称，未配置的缓存使用默认配置）
+     */
+    private Map<String, CacheSpec> caches = new HashMap<>();
+
+    /**
+     * 缓存 key 生成策略
+     */
+    public enum KeyGeneratorType {
+        /**
+         * 快速（简单类型参数直接拼接，其他参数序列化后使用 MurmurHash3 128 位哈希）
+         */
+        FAST,
+
+        /**
+         * 摘要（参数转换为 JSON 后使用 SHA-256 摘要，2.7.5 之前的默认策略）
+         */
+        DIGEST
+    }
+
+    /**
+     * 多级缓存配置属性
+     * <p>
+     * 启用后在 Redis（L2）前增加一层本地缓存（L1），写入、删除时通过 Redis 发布订阅通知其他节点失效本地缓存
+     * </p>
+     */
+    public static class MultiLevelProperties {
+
+        /**
+         * 是否启用
+         */
+        private boolean enabled = false;
+
+        /**
+         * 本地缓存最大数量（每个缓存）
+         */
+        private int localMaxSize = 1000;
+
+        /**
+         * 本地缓存过期时间（兜底失效时间，同时也是失效通知丢失时本地缓存可能读取到旧值的最长时间）
+         */
+        private Duration localTtl = Duration.ofMinutes(1);
+
+        /**
+         * 失效通知主题
+         */
+        private String topic = "spring-cache:multi-level:invalidate";
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getLocalMaxSize() {
+            return localMaxSize;
+        }
+
+        public void setLocalMaxSize(int localMaxSize) {
+            this.localMaxSize = localMaxSize;
+        }
+
+        public Duration getLocalTtl() {
+            return localTtl;
+        }
+
+        public void setLocalTtl(Duration localTtl) {
+            this.localTtl = localTtl;
+        }
+
+        public String getTopic() {
+            return topic;
+        }
+
+        public void setTopic(String topic) {
+            this.topic = topic;
+        }
+    }
+
+    /**
+     * 缓存配置属性
+     */
+    public static class CacheSpec {
+
+        /**
+         * Redis 缓存过期时间（为空时使用 spring.cache.redis.time-to-live）
+         */
+        private Duration ttl;
+
+        /**
+         * 本地缓存最大数量（为空时使用多级缓存默认配置）
+         */
+        private Integer localMaxSize;
+
+        /**
+         * 本地缓存过期时间（为空时使用多级缓存默认配置）
+         */
+        private Duration localTtl;
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public Integer getLocalMaxSize() {
+            return localMaxSize;
+        }
+
+        public void setLocalMaxSize(Integer localMaxSize) {
+            this.localMaxSize = localMaxSize;
+        }
+
+        public Duration getLocalTtl() {
+            return localTtl;
+        }
+
+        public void setLocalTtl(Duration localTtl) {
+            this.localTtl = localTtl;
+        }
+    }
+
+    public KeyGeneratorType getKeyGenerator() {
+        return keyGenerator;
+    }
+
+    public void setKeyGenerator(KeyGeneratorType keyGenerator) {
+        this.keyGenerator = keyGenerator;
+    }
+
+    public MultiLevelProperties getMultiLevel() {
+        return multiLevel;
+    }
+
+    public void setMultiLevel(MultiLevelProperties multiLevel) {
+        this.multiLevel = multiLevel;
+    }
+
+    public Map<String, CacheSpec> getCaches() {
+        return caches;
+    }
+
+    public void setCaches(Map<String, CacheSpec> caches) {
+        this.caches = caches;
+    }
+}
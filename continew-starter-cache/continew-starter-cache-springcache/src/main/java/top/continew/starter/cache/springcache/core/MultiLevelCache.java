@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.cache.springcache.core;
+
+import cn.hutool.cache.CacheUtil;
+import cn.hutool.cache.impl.LRUCache;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import top.continew.starter.cache.redisson.core.SingleFlight;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 多级缓存（本地缓存 L1 + Redis 缓存 L2）
+ * <p>
+ * 读取时优先命中本地缓存，未命中再读取 Redis 并回填；写入、删除时先写 Redis，再失效本地缓存并通知其他节点失效。
+ * 本地缓存以 key 的字符串形式存储（与 RedisCache 的 key 转换规则一致，key 需要提供稳定的 toString）。
+ * </p>
+ *
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public class MultiLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final Cache redisCache;
+    private final LRUCache<String, Object> localCache;
+    private final MultiLevelCacheManager cacheManager;
+    private final SingleFlight singleFlight = new SingleFlight();
+    private final AtomicLong invalidateVersion = new AtomicLong();
+    private final LongAdder localHitCount = new LongAdder();
+    private final LongAdder localMissCount = new LongAdder();
+    private final LongAdder redisHitCount = new LongAdder();
+    private final LongAdder redisMissCount = new LongAdder();
+
+    /**
+     * 构造方法
+     *
+     * @param redisCache      Redis 缓存
+     * @param localMaxSize    本地缓存最大数量
+     * @param localTtl        本地缓存过期时间
+     * @param allowNullValues 是否允许缓存空值
+     * @param cacheManager    缓存管理器（用于发布失效通知）
+     */
+    public MultiLevelCache(Cache redisCache,
+                           int localMaxSize,
+                           Duration localTtl,
+                           boolean allowNullValues,
+                           MultiLevelCacheManager cacheManager) {
+        super(allowNullValues);
+        this.name = redisCache.getName();
+        this.redisCache = redisCache;
+        this.localCache = CacheUtil.newLRUCache(localMaxSize, localTtl.toMillis());
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return redisCache.getNativeCache();
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = toLocalKey(key);
+        Object value = localCache.get(localKey, false);
+        if (null != value) {
+            localHitCount.increment();
+            return value;
+        }
+        localMissCount.increment();
+        // 读取 Redis 期间发生失效时不回填，避免将旧值写回本地缓存
+        long version = invalidateVersion.get();
+        ValueWrapper wrapper = redisCache.get(key);
+        if (null == wrapper) {
+            redisMissCount.increment();
+            return null;
+        }
+        redisHitCount.increment();
+        Object storeValue = toStoreValue(wrapper.get());
+        this.putLocal(localKey, storeValue, version);
+        return storeValue;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * 未命中时按 key 单飞加载：同一节点同一个 key 同一时刻只调用一次 valueLoader，其他并发请求等待并共享结果（@Cacheable(sync = true) 时生效）
+     * </p>
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = this.get(key);
+        if (null != wrapper) {
+            return (T)wrapper.get();
+        }
+        String localKey = toLocalKey(key);
+        return singleFlight.execute(localKey, () -> {
+            // 等待期间其他节点可能已加载
+            long version = invalidateVersion.get();
+            ValueWrapper latest = redisCache.get(key);
+            if (null != latest) {
+                this.putLocal(localKey, toStoreValue(latest.get()), version);
+                return (T)latest.get();
+            }
+            T value;
+            try {
+                value = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            redisCache.put(key, value);
+            this.invalidate(localKey);
+            return value;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        redisCache.put(key, value);
+        this.invalidate(toLocalKey(key));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = redisCache.putIfAbsent(key, value);
+        if (null == existing) {
+            this.invalidate(toLocalKey(key));
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        redisCache.evict(key);
+        this.invalidate(toLocalKey(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = redisCache.evictIfPresent(key);
+        this.invalidate(toLocalKey(key));
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        redisCache.clear();
+        this.clearLocal();
+        cacheManager.publishClear(name);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = redisCache.invalidate();
+        this.clearLocal();
+        cacheManager.publishClear(name);
+        return invalidated;
+    }
+
+    /**
+     * 获取本地缓存（L1）命中次数
+     *
+     * @return 命中次数
+     */
+    public long getLocalHitCount() {
+        return localHitCount.sum();
+    }
+
+    /**
+     * 获取本地缓存（L1）未命中次数
+     *
+     * @return 未命中次数
+     */
+    public long getLocalMissCount() {
+        return localMissCount.sum();
+    }
+
+    /**
+     * 获取 Redis 缓存（L2）命中次数
+     *
+     * @return 命中次数
+     */
+    public long getRedisHitCount() {
+        return redisHitCount.sum();
+    }
+
+    /**
+     * 获取 Redis 缓存（L2）未命中次数
+     *
+     * @return 未命中次数
+     */
+    public long getRedisMissCount() {
+        return redisMissCount.sum();
+    }
+
+    /**
+     * 获取合并加载次数（等待并共享其他请求加载结果的次数）
+     *
+     * @return 合并加载次数
+     */
+    public long getCoalescedLoadCount() {
+        return singleFlight.getCoalescedCount();
+    }
+
+    /**
+     * 获取本地缓存数量
+     *
+     * @return 本地缓存数量
+     */
+    public int getLocalCacheSize() {
+        return localCache.size();
+    }
+
+    /**
+     * 失效本地缓存（接收到其他节点的失效通知时调用）
+     *
+     * @param localKey 本地缓存 key
+     */
+    void evictLocal(String localKey) {
+        invalidateVersion.incrementAndGet();
+        localCache.remove(localKey);
+    }
+
+    /**
+     * 清空本地缓存（接收到其他节点的清空通知时调用）
+     */
+    void clearLocal() {
+        invalidateVersion.incrementAndGet();
+        localCache.clear();
+    }
+
+    /**
+     * 失效本地缓存并通知其他节点
+     *
+     * @param localKey 本地缓存 key
+     */
+    private void invalidate(String localKey) {
+        this.evictLocal(localKey);
+        cacheManager.publishEvict(name, localKey);
+    }
+
+    /**
+     * 回填本地缓存（期间发生失效则放弃回填）
+     *
+     * @param localKey   本地缓存 key
+     * @param storeValue 存储值
+     * @param version    读取前的失效版本号
+     */
+    private void putLocal(String localKey, Object storeValue, long version) {
+        if (version != invalidateVersion.get()) {
+            return;
+        }
+        localCache.put(localKey, storeValue);
+        if (version != invalidateVersion.get()) {
+            localCache.remove(localKey);
+        }
+    }
+
+    /**
+     * 转换为本地缓存 key
+     *
+     * @param key 缓存 key
+     * @return 本地缓存 key
+     */
+    private static String toLocalKey(Object key) {
+        return key instanceof String str ? str : String.valueOf(key);
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.cache.springcache.core;
+
+import cn.hutool.core.util.IdUtil;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import top.continew.starter.cache.springcache.autoconfigure.SpringCacheProperties;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 多级缓存管理器
+ * <p>
+ * 包装 RedisCacheManager，为每个缓存增加本地缓存，并通过 Redis 发布订阅在节点间同步失效。<br>
+ * 失效消息格式：节点 ID + 换行 + 操作（E：失效，C：清空）+ 换行 + 缓存名称 + 换行 + 本地缓存 key，节点忽略自身发布的消息。
+ * </p>
+ *
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public class MultiLevelCacheManager implements CacheManager {
+
+    private static final char SEPARATOR = '\n';
+    private static final String OPERATION_EVICT = "E";
+    private static final String OPERATION_CLEAR = "C";
+
+    private final RedisCacheManager redisCacheManager;
+    private final SpringCacheProperties properties;
+    private final RTopic invalidateTopic;
+    private final String nodeId = IdUtil.fastSimpleUUID();
+    private final Map<String, MultiLevelCache> cacheMap = new ConcurrentHashMap<>(16);
+
+    public MultiLevelCacheManager(RedisCacheManager redisCacheManager,
+                                  SpringCacheProperties properties,
+                                  RedissonClient redissonClient) {
+        this.redisCacheManager = redisCacheManager;
+        this.properties = properties;
+        this.invalidateTopic = redissonClient.getTopic(properties.getMultiLevel().getTopic(), StringCodec.INSTANCE);
+        this.invalidateTopic.addListener(String.class, (channel, message) -> this.onMessage(message));
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        MultiLevelCache cache = cacheMap.get(name);
+        if (null != cache) {
+            return cache;
+        }
+        Cache redisCache = redisCacheManager.getCache(name);
+        if (null == redisCache) {
+            return null;
+        }
+        return cacheMap.computeIfAbsent(name, key -> this.createCache(redisCache));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return redisCacheManager.getCacheNames();
+    }
+
+    /**
+     * 获取已创建的多级缓存（可用于采集各级命中率）
+     *
+     * @return 多级缓存（key 为缓存名称）
+     */
+    public Map<String, MultiLevelCache> getCaches() {
+        return Map.copyOf(cacheMap);
+    }
+
+    /**
+     * 获取 Redis 缓存管理器
+     *
+     * @return Redis 缓存管理器
+     */
+    public RedisCacheManager getRedisCacheManager() {
+        return redisCacheManager;
+    }
+
+    /**
+     * 发布失效通知
+     *
+     * @param cacheName 缓存名称
+     * @param localKey  本地缓存 key
+     */
+    void publishEvict(String cacheName, String localKey) {
+        invalidateTopic.publish(nodeId + SEPARATOR + OPERATION_EVICT + SEPARATOR + cacheName + SEPARATOR + localKey);
+    }
+
+    /**
+     * 发布清空通知
+     *
+     * @param cacheName 缓存名称
+     */
+    void publishClear(String cacheName) {
+        invalidateTopic.publish(nodeId + SEPARATOR + OPERATION_CLEAR + SEPARATOR + cacheName + SEPARATOR);
+    }
+
+    /**
+     * 创建多级缓存
+     *
+     * @param redisCache Redis 缓存
+     * @return 多级缓存
+     */
+    private MultiLevelCache createCache(Cache redisCache) {
+        SpringCacheProperties.MultiLevelProperties multiLevel = properties.getMultiLevel();
+        int localMaxSize = multiLevel.getLocalMaxSize();
+        Duration localTtl = multiLevel.getLocalTtl();
+        SpringCacheProperties.CacheSpec spec = properties.getCaches().get(redisCache.getName());
+        if (null != spec) {
+            if (null != spec.getLocalMaxSize()) {
+                localMaxSize = spec.getLocalMaxSize();
+            }
+            if (null != spec.getLocalTtl()) {
+                localTtl = spec.getLocalTtl();
+            }
+        }
+        boolean allowNullValues = !(redisCache instanceof RedisCache cache) || cache.isAllowNullValues();
+        return new MultiLevelCache(redisCache, localMaxSize, localTtl, allowNullValues, this);
+    }
+
+    /**
+     * 处理失效通知
+     *
+     * @param message 消息
+     */
+    private void onMessage(String message) {
+        String[] parts = message.split(String.valueOf(SEPARATOR), 4);
+        if (parts.length < 4 || nodeId.equals(parts[0])) {
+            return;
+        }
+        MultiLevelCache cache = cacheMap.get(parts[2]);
+        if (null == cache) {
+            return;
+        }
+        if (OPERATION_CLEAR.equals(parts[1])) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(parts[3]);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.cache.springcache.generator;
+
+import cn.hutool.core.text.CharSequenceUtil;
+import org.springframework.cache.interceptor.KeyGenerator;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 缓存 key 生成器基类
+ * <p>
+ * key 格式：方法名（大写下划线）:参数 key，方法名前缀按方法缓存，避免每次调用重复转换
+ * </p>
+ *
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public abstract class AbstractCacheKeyGenerator implements KeyGenerator {
+
+    private final Map<Method, String> prefixCache = new ConcurrentHashMap<>();
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        String prefix = prefixCache.computeIfAbsent(method, m -> CharSequenceUtil.toUnderlineCase(m.getName())
+            .toUpperCase());
+        return prefix + ':' + this.generateParamsKey(params);
+    }
+
+    /**
+     * 生成参数 key
+     *
+     * @param params 参数
+     * @return 参数 key
+     */
+    protected abstract String generateParamsKey(Object... params);
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.cache.springcache.generator;
+
+import cn.hutool.core.map.MapUtil;
+import cn.hutool.crypto.digest.DigestUtil;
+import cn.hutool.json.JSONUtil;
+
+import java.util.Map;
+
+/**
+ * 摘要缓存 key 生成器
+ * <p>
+ * 参数转换为 JSON 后使用 SHA-256 摘要
+ * </p>
+ *
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public class DigestCacheKeyGenerator extends AbstractCacheKeyGenerator {
+
+    @Override
+    protected String generateParamsKey(Object... params) {
+        Map<String, Object> paramMap = MapUtil.newHashMap(params.length);
+        for (int i = 0; i < params.length; i++) {
+            paramMap.put(String.valueOf(i), params[i]);
+        }
+        return DigestUtil.sha256Hex(JSONUtil.toJsonStr(paramMap));
+    }
+}
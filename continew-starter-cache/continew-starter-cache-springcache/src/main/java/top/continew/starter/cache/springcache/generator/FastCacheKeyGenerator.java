@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.cache.springcache.generator;
+
+import cn.hutool.core.lang.hash.MurmurHash;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * 快速缓存 key 生成器
+ * <p>
+ * 1.无参数：参数 key 为空字符串<br>
+ * 2.参数均为简单类型（字符串、数字、布尔、字符、枚举、null）且长度较短：直接拼接，可读且无需哈希；
+ * 非字符串参数添加类型标记（如 Long 1 为 l$1、Integer 1 为 i$1），避免不同类型的相同取值冲突<br>
+ * 3.其他：使用 ObjectMapper 将参数类型及参数序列化为字节后计算 MurmurHash3 128 位哈希（非加密哈希，速度远高于 SHA-256），
+ * 并添加 # 前缀与直接拼接的 key 区分；无法序列化时（如空 Bean、循环引用）回退为 {@link DigestCacheKeyGenerator}
+ * </p>
+ *
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public class FastCacheKeyGenerator extends AbstractCacheKeyGenerator {
+
+    /**
+     * 直接拼接的最大长度（超出则使用哈希）
+     */
+    private static final int MAX_PLAIN_LENGTH = 64;
+    private static final char SEPARATOR = ':';
+    private static final char HASH_PREFIX = '#';
+    private static final char TYPE_SEPARATOR = '$';
+    private static final String NULL = "null";
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final ObjectMapper objectMapper;
+    private final DigestCacheKeyGenerator fallback = new DigestCacheKeyGenerator();
+
+    public FastCacheKeyGenerator(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected String generateParamsKey(Object... params) {
+        if (params.length == 0) {
+            return "";
+        }
+        String plainKey = this.toPlainKey(params);
+        if (null != plainKey) {
+            return plainKey;
+        }
+        byte[] bytes;
+        try {
+            // 参数类型参与哈希，避免不同类型的参数序列化结果相同而冲突
+            bytes = objectMapper.writeValueAsBytes(new Object[] {getTypeNames(params), params});
+        } catch (JsonProcessingException e) {
+            // 无法序列化时回退为摘要（与 64 位十六进制的直接拼接 key 区分）
+            return HASH_PREFIX + fallback.generateParamsKey(params);
+        }
+        long[] hash = MurmurHash.hash128(bytes);
+        return HASH_PREFIX + toHex(hash[0], hash[1]);
+    }
+
+    /**
+     * 转换为直接拼接的 key
+     *
+     * @param params 参数
+     * @return 直接拼接的 key（不满足条件时返回 null）
+     */
+    private String toPlainKey(Object... params) {
+        StringBuilder builder = new StringBuilder(MAX_PLAIN_LENGTH);
+        for (int i = 0; i < params.length; i++) {
+            if (i > 0) {
+                builder.append(SEPARATOR);
+            }
+            Object param = params[i];
+            if (null == param) {
+                builder.append(NULL);
+            } else if (param instanceof CharSequence) {
+                String str = param.toString();
+                if (!isPlainString(str)) {
+                    return null;
+                }
+                builder.append(str);
+            } else if (param instanceof Enum<?> e) {
+                builder.append('e')
+                    .append(TYPE_SEPARATOR)
+                    .append(e.getDeclaringClass().getSimpleName())
+                    .append('.')
+                    .append(e.name());
+            } else {
+                String typeTag = getTypeTag(param);
+                if (null == typeTag) {
+                    return null;
+                }
+                String str = param.toString();
+                if (param instanceof Character && !isPlainString(str)) {
+                    return null;
+                }
+                builder.append(typeTag).append(TYPE_SEPARATOR).append(str);
+            }
+            if (builder.length() > MAX_PLAIN_LENGTH) {
+                return null;
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 获取可直接拼接的非字符串简单类型标记（toString 结果稳定）
+     *
+     * @param param 参数
+     * @return 类型标记（不支持直接拼接时返回 null）
+     */
+    private static String getTypeTag(Object param) {
+        if (param instanceof Long) {
+            return "l";
+        }
+        if (param instanceof Integer) {
+            return "i";
+        }
+        if (param instanceof Short) {
+            return "s";
+        }
+        if (param instanceof Byte) {
+            return "b";
+        }
+        if (param instanceof Double) {
+            return "d";
+        }
+        if (param instanceof Float) {
+            return "f";
+        }
+        if (param instanceof BigInteger) {
+            return "bi";
+        }
+        if (param instanceof BigDecimal) {
+            return "bd";
+        }
+        if (param instanceof Boolean) {
+            return "z";
+        }
+        if (param instanceof Character) {
+            return "c";
+        }
+        return null;
+    }
+
+    /**
+     * 获取参数类型名称列表
+     *
+     * @param params 参数
+     * @return 参数类型名称列表（null 参数为 null）
+     */
+    private static String[] getTypeNames(Object... params) {
+        String[] typeNames = new String[params.length];
+        for (int i = 0; i < params.length; i++) {
+            typeNames[i] = null != params[i] ? params[i].getClass().getName() : null;
+        }
+        return typeNames;
+    }
+
+    /**
+     * 是否为可直接拼接的字符串（不能为空、不能包含分隔符、哈希前缀或类型分隔符，不能与 null 的表示冲突）
+     *
+     * @param str 字符串
+     * @return 是否为可直接拼接的字符串
+     */
+    private static boolean isPlainString(String str) {
+        if (str.isEmpty() || str.length() > MAX_PLAIN_LENGTH || NULL.equals(str)) {
+            return false;
+        }
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+            if (c == SEPARATOR || c == HASH_PREFIX || c == TYPE_SEPARATOR || Character.isWhitespace(c) || Character
+                .isISOControl(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 转换为定长十六进制字符串
+     *
+     * @param high 高 64 位
+     * @param low  低 64 位
+     * @return 32 位十六进制字符串
+     */
+    private static String toHex(long high, long low) {
+        char[] chars = new char[32];
+        for (int i = 15; i >= 0; i--) {
+            chars[i] = HEX_DIGITS[(int)(high & 0xF)];
+            chars[i + 16] = HEX_DIGITS[(int)(low & 0xF)];
+            high >>>= 4;
+            low >>>= 4;
+        }
+        return new String(chars);
+    }
+}
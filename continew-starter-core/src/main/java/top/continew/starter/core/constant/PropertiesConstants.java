@@ -119,6 +119,16 @@ public class PropertiesConstants {
      */
     public static final String MESSAGING_WEBSOCKET = MESSAGING + StringConstants.DOT + "websocket";
 
+    /**
+     * 缓存配置
+     */
+    public static final String CACHE = CONTINEW_STARTER + StringConstants.DOT + "cache";
+
+    /**
+     * Spring Cache 配置
+     */
+    public static final String CACHE_SPRING_CACHE = CACHE + StringConstants.DOT + "spring-cache";
+
     /**
      * CRUD 配置
      */
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.core.util;
+
+import top.continew.starter.core.enums.BaseEnum;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 枚举接口 BaseEnum 工具类
+ * <p>
+ * 每个枚举类型仅在首次使用时构建一次 value、description 到枚举实例的映射表，后续查找为 O(1)，
+ * 供 Jackson 反序列化、EasyExcel 转换、MVC 参数转换及 MyBatis 类型处理等场景共用。
+ * </p>
+ *
+ * @author Charles7c
+ * @see BaseEnum
+ * @since 2.7.5
+ */
+public class BaseEnumUtils {
+
+    private static final ClassValue<EnumTable> ENUM_TABLE_CACHE = new ClassValue<>() {
+        @Override
+        protected EnumTable computeValue(Class<?> type) {
+            return EnumTable.of(type);
+        }
+    };
+
+    private BaseEnumUtils() {
+    }
+
+    /**
+     * 是否为 BaseEnum 枚举类型
+     *
+     * @param type 类型
+     * @return true：是；false：否
+     */
+    public static boolean isBaseEnum(Class<?> type) {
+        return null != type && type.isEnum() && BaseEnum.class.isAssignableFrom(type);
+    }
+
+    /**
+     * 通过 value 获取枚举实例
+     * <p>
+     * 优先按字符串精确匹配；value 为数值类型的枚举再按数值匹配（例如：1、1L、1.0 均可匹配 value 为 1 的枚举）
+     * </p>
+     *
+     * @param enumType 枚举类型
+     * @param value    枚举值
+     * @return 枚举实例，获取不到时为 {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends BaseEnum<?>> E getByValue(Class<?> enumType, Object value) {
+        if (null == value || !isBaseEnum(enumType)) {
+            return null;
+        }
+        EnumTable enumTable = ENUM_TABLE_CACHE.get(enumType);
+        String str = value.toString().trim();
+        BaseEnum<?> baseEnum = enumTable.valueMap.get(str);
+        if (null == baseEnum && !enumTable.numberMap.isEmpty()) {
+            String numberKey = toNumberKey(str);
+            baseEnum = null == numberKey ? null : enumTable.numberMap.get(numberKey);
+        }
+        return (E)baseEnum;
+    }
+
+    /**
+     * 通过 description 获取枚举实例
+     *
+     * @param enumType    枚举类型
+     * @param description 枚举描述
+     * @return 枚举实例，获取不到时为 {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends BaseEnum<?>> E getByDescription(Class<?> enumType, String description) {
+        if (null == description || !isBaseEnum(enumType)) {
+            return null;
+        }
+        return (E)ENUM_TABLE_CACHE.get(enumType).descriptionMap.get(description);
+    }
+
+    /**
+     * 转换为数值查找键（去除末尾 0 的十进制字符串）
+     *
+     * @param str 字符串
+     * @return 数值查找键，非数值时为 {@code null}
+     */
+    private static String toNumberKey(String str) {
+        if (str.isEmpty()) {
+            return null;
+        }
+        // 仅接受普通十进制表示，避免科学计数法（如 1e999999999）展开为超长字符串
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+            if (!((c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.')) {
+                return null;
+            }
+        }
+        try {
+            return new BigDecimal(str).stripTrailingZeros().toPlainString();
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 枚举映射表
+     */
+    private static final class EnumTable {
+
+        private final Map<String, BaseEnum<?>> valueMap;
+        private final Map<String, BaseEnum<?>> numberMap;
+        private final Map<String, BaseEnum<?>> descriptionMap;
+
+        private EnumTable(Map<String, BaseEnum<?>> valueMap,
+                          Map<String, BaseEnum<?>> numberMap,
+                          Map<String, BaseEnum<?>> descriptionMap) {
+            this.valueMap = valueMap;
+            this.numberMap = numberMap;
+            this.descriptionMap = descriptionMap;
+        }
+
+        private static EnumTable of(Class<?> type) {
+            Object[] enumConstants = type.getEnumConstants();
+            if (null == enumConstants || !BaseEnum.class.isAssignableFrom(type)) {
+                return new EnumTable(Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap());
+            }
+            Map<String, BaseEnum<?>> valueMap = new HashMap<>(enumConstants.length * 2);
+            Map<String, BaseEnum<?>> numberMap = new HashMap<>(enumConstants.length * 2);
+            Map<String, BaseEnum<?>> descriptionMap = new HashMap<>(enumConstants.length * 2);
+            for (Object enumConstant : enumConstants) {
+                BaseEnum<?> baseEnum = (BaseEnum<?>)enumConstant;
+                // 重复的 value、description 以先声明的枚举为准，与原线性查找行为保持一致
+                Object value = baseEnum.getValue();
+                if (null != value) {
+                    valueMap.putIfAbsent(value.toString().trim(), baseEnum);
+                    String numberKey = value instanceof Number ? toNumberKey(value.toString()) : null;
+                    if (null != numberKey) {
+                        numberMap.putIfAbsent(numberKey, baseEnum);
+                    }
+                }
+                if (null != baseEnum.getDescription()) {
+                    descriptionMap.putIfAbsent(baseEnum.getDescription(), baseEnum);
+                }
+            }
+            return new EnumTable(valueMap, numberMap, descriptionMap);
+        }
+    }
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.core.util;
+
+import cn.hutool.core.bean.BeanDesc;
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.bean.PropDesc;
+import cn.hutool.core.convert.BasicType;
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.util.ReflectUtil;
+import top.continew.starter.core.exception.BaseException;
+
+import java.lang.invoke.*;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bean 复制工具类
+ * <p>
+ * 按（源类型，目标类型）缓存复制计划：同名属性的 getter/setter 在首次使用时通过 {@link LambdaMetafactory} 生成函数对象，后续复制不再进行反射查找。
+ * 属性类型不兼容时回退为 {@link Convert} 类型转换，与 Hutool {@link BeanUtil} 的复制语义保持一致。
+ * </p>
+ *
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public class BeanCopyUtils {
+
+    /**
+     * 复制计划缓存（源类型 -> 目标类型 -> 复制计划）
+     * <p>
+     * 使用 {@link ClassValue} 将缓存挂在类型自身上，不会阻止业务类及其类加载器被回收（如热部署、多类加载器场景）
+     * </p>
+     */
+    private static final ClassValue<ClassValue<BeanCopier>> COPIER_CACHE = new ClassValue<>() {
+        @Override
+        protected ClassValue<BeanCopier> computeValue(Class<?> sourceClass) {
+            return new ClassValue<>() {
+                @Override
+                protected BeanCopier computeValue(Class<?> targetClass) {
+                    return new BeanCopier(sourceClass, targetClass);
+                }
+            };
+        }
+    };
+
+    /**
+     * 无参构造函数对象缓存
+     */
+    private static final ClassValue<Supplier<?>> CONSTRUCTOR_CACHE = new ClassValue<>() {
+        @Override
+        protected Supplier<?> computeValue(Class<?> type) {
+            return constructor(type);
+        }
+    };
+
+    private BeanCopyUtils() {
+    }
+
+    /**
+     * 复制为指定类型对象
+     *
+     * @param source      源对象
+     * @param targetClass 目标类型
+     * @param <T>         目标类型
+     * @return 目标对象（源对象为 null 时返回 null）
+     */
+    public static <T> T toBean(Object source, Class<T> targetClass) {
+        if (null == source) {
+            return null;
+        }
+        T target = newInstance(targetClass);
+        getCopier(source.getClass(), targetClass).copy(source, target, false);
+        return target;
+    }
+
+    /**
+     * 复制为指定类型对象列表
+     *
+     * @param collection  源对象集合
+     * @param targetClass 目标类型
+     * @param <T>         目标类型
+     * @return 目标对象列表（源集合为 null 时返回 null）
+     */
+    public static <T> List<T> copyToList(Collection<?> collection, Class<T> targetClass) {
+        if (null == collection) {
+            return null;
+        }
+        if (collection.isEmpty()) {
+            return new ArrayList<>(0);
+        }
+        List<T> list = new ArrayList<>(collection.size());
+        Class<?> lastSourceClass = null;
+        BeanCopier copier = null;
+        for (Object source : collection) {
+            if (null == source) {
+                list.add(null);
+                continue;
+            }
+            // 同一集合内通常为同一类型，避免重复查找缓存
+            if (source.getClass() != lastSourceClass) {
+                lastSourceClass = source.getClass();
+                copier = getCopier(lastSourceClass, targetClass);
+            }
+            T target = newInstance(targetClass);
+            copier.copy(source, target, false);
+            list.add(target);
+        }
+        return list;
+    }
+
+    /**
+     * 复制属性
+     *
+     * @param source          源对象
+     * @param target          目标对象
+     * @param ignoreNullValue 是否忽略源对象中的 null 值
+     */
+    public static void copyProperties(Object source, Object target, boolean ignoreNullValue) {
+        if (null == source || null == target) {
+            return;
+        }
+        getCopier(source.getClass(), target.getClass()).copy(source, target, ignoreNullValue);
+    }
+
+    /**
+     * 获取复制计划
+     *
+     * @param sourceClass 源类型
+     * @param targetClass 目标类型
+     * @return 复制计划
+     */
+    private static BeanCopier getCopier(Class<?> sourceClass, Class<?> targetClass) {
+        return COPIER_CACHE.get(sourceClass).get(targetClass);
+    }
+
+    /**
+     * 创建实例
+     *
+     * @param clazz 类型
+     * @param <T>   类型
+     * @return 实例
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T newInstance(Class<T> clazz) {
+        return (T)CONSTRUCTOR_CACHE.get(clazz).get();
+    }
+
+    /**
+     * 生成无参构造函数对象（无法生成时回退为 Hutool 实例化）
+     */
+    private static Supplier<?> constructor(Class<?> clazz) {
+        try {
+            Constructor<?> constructor = clazz.getDeclaredConstructor();
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(clazz, MethodHandles.lookup());
+            MethodHandle handle = lookup.unreflectConstructor(constructor);
+            CallSite site = LambdaMetafactory.metafactory(lookup, "get", MethodType
+                .methodType(Supplier.class), MethodType.methodType(Object.class), handle, MethodType.methodType(clazz));
+            return (Supplier<?>)site.getTarget().invoke();
+        } catch (Throwable e) {
+            // 回退为反射实例化
+        }
+        return () -> ReflectUtil.newInstanceIfPossible(clazz);
+    }
+
+    /**
+     * 生成 getter 函数对象（无法生成时回退为反射调用，如源类型与工具类不在同一类加载器下）
+     */
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> getter(Method method) {
+        try {
+            Class<?> declaringClass = method.getDeclaringClass();
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+            MethodType samType = MethodType.methodType(Object.class, Object.class);
+            MethodType instantiatedType = MethodType.methodType(wrap(method.getReturnType()), declaringClass);
+            CallSite site = LambdaMetafactory.metafactory(lookup, "apply", MethodType
+                .methodType(Function.class), samType, lookup.unreflect(method), instantiatedType);
+            return (Function<Object, Object>)site.getTarget().invoke();
+        } catch (Throwable e) {
+            Method accessible = ReflectUtil.setAccessible(method);
+            return obj -> ReflectUtil.invoke(obj, accessible);
+        }
+    }
+
+    /**
+     * 生成 setter 函数对象（无法生成时回退为反射调用）
+     */
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> setter(Method method) {
+        try {
+            Class<?> declaringClass = method.getDeclaringClass();
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+            MethodType samType = MethodType.methodType(void.class, Object.class, Object.class);
+            MethodType instantiatedType = MethodType.methodType(void.class, declaringClass, wrap(method
+                .getParameterTypes()[0]));
+            CallSite site = LambdaMetafactory.metafactory(lookup, "accept", MethodType
+                .methodType(BiConsumer.class), samType, lookup.unreflect(method), instantiatedType);
+            return (BiConsumer<Object, Object>)site.getTarget().invoke();
+        } catch (Throwable e) {
+            Method accessible = ReflectUtil.setAccessible(method);
+            return (obj, value) -> ReflectUtil.invoke(obj, accessible, value);
+        }
+    }
+
+    private static Class<?> wrap(Class<?> clazz) {
+        return clazz.isPrimitive() ? BasicType.wrap(clazz) : clazz;
+    }
+
+    /**
+     * 复制计划（源类型 -> 目标类型）
+     */
+    private static final class BeanCopier {
+
+        private final PropertyCopier[] propertyCopiers;
+
+        BeanCopier(Class<?> sourceClass, Class<?> targetClass) {
+            BeanDesc sourceDesc = BeanUtil.getBeanDesc(sourceClass);
+            BeanDesc targetDesc = BeanUtil.getBeanDesc(targetClass);
+            List<PropertyCopier> copierList = new ArrayList<>();
+            for (PropDesc targetProp : targetDesc.getProps()) {
+                if (!targetProp.isWritable(true)) {
+                    continue;
+                }
+                PropDesc sourceProp = sourceDesc.getProp(targetProp.getFieldName());
+                if (null == sourceProp || !sourceProp.isReadable(true)) {
+                    continue;
+                }
+                Method getterMethod = sourceProp.getGetter();
+                Method setterMethod = targetProp.getSetter();
+                if (null == getterMethod || null == setterMethod) {
+                    continue;
+                }
+                Class<?> sourceType = wrap(getterMethod.getReturnType());
+                Class<?> targetType = setterMethod.getParameterTypes()[0];
+                Type convertType = wrap(targetType).isAssignableFrom(sourceType)
+                    ? null
+                    : setterMethod.getGenericParameterTypes()[0];
+                copierList.add(new PropertyCopier(getter(getterMethod), setter(setterMethod), convertType, targetType
+                    .isPrimitive()));
+            }
+            this.propertyCopiers = copierList.toArray(new PropertyCopier[0]);
+        }
+
+        void copy(Object source, Object target, boolean ignoreNullValue) {
+            for (PropertyCopier propertyCopier : propertyCopiers) {
+                propertyCopier.copy(source, target, ignoreNullValue);
+            }
+        }
+    }
+
+    /**
+     * 属性复制器
+     *
+     * @param getter      源属性 getter
+     * @param setter      目标属性 setter
+     * @param convertType 需要转换时的目标类型（类型兼容时为 null）
+     * @param primitive   目标属性是否为基本类型
+     */
+    private record PropertyCopier(Function<Object, Object> getter, BiConsumer<Object, Object> setter,
+                                  Type convertType, boolean primitive) {
+
+        void copy(Object source, Object target, boolean ignoreNullValue) {
+            Object value = getter.apply(source);
+            if (null == value) {
+                // 基本类型无法设置 null
+                if (ignoreNullValue || primitive) {
+                    return;
+                }
+                setter.accept(target, null);
+                return;
+            }
+            if (null != convertType) {
+                try {
+                    value = Convert.convert(convertType, value);
+                } catch (Exception e) {
+                    throw new BaseException("属性复制类型转换失败", e);
+                }
+                if (null == value && primitive) {
+                    return;
+                }
+            }
+            setter.accept(target, value);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.data.core.enums;
+
+/**
+ * 分页总数统计策略枚举
+ *
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public enum CountStrategy {
+
+    /**
+     * 精确统计，每次分页均执行 COUNT 查询
+     */
+    EXACT,
+
+    /**
+     * 不统计，多查询一条数据用于判断是否存在下一页
+     */
+    NONE,
+
+    /**
+     * 估算统计，基于数据库执行计划估算总数（不支持的数据库回退为精确统计）
+     */
+    ESTIMATED,
+
+    /**
+     * 缓存统计，按（查询语句，查询条件）缓存 COUNT 结果一段时间
+     */
+    CACHED
+}
@@ -20,10 +20,21 @@ import cn.hutool.core.text.CharSequenceUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
  * SQL 注入验证工具类
+ * <p>
+ * 正则及关键字均在类加载时预编译：正则合并为单个模式，关键字构建为 Aho-Corasick 自动机，一次扫描即可完成匹配；自定义关键字编译后缓存。
+ * </p>
  *
  * @author hubin（<a href="https://github.com/baomidou/mybatis-plus">MyBatis Plus</a>）
  * @author zhoujf（<a href="https://github.com/jeecgboot/JeecgBoot">JeecgBoot</a>）
@@ -37,14 +48,23 @@ public class SqlInjectionUtils {
     /**
      * SQL语法检查正则：符合两个关键字（有先后顺序）才算匹配
      */
-    private static final Pattern SQL_SYNTAX_PATTERN = Pattern
-        .compile("(insert|delete|update|select|create|drop|truncate|grant|alter|deny|revoke|call|execute|exec|declare|show|rename|set)" + "\\s+.*(into|from|set|where|table|database|view|index|on|cursor|procedure|trigger|for|password|union|and|or)|(select\\s*\\*\\s*from\\s+)|(and|or)\\s+.*", Pattern.CASE_INSENSITIVE);
+    private static final String SQL_SYNTAX_REGEX = "(insert|delete|update|select|create|drop|truncate|grant|alter|deny|revoke|call|execute|exec|declare|show|rename|set)" + "\\s+.*(into|from|set|where|table|database|view|index|on|cursor|procedure|trigger|for|password|union|and|or)|(select\\s*\\*\\s*from\\s+)|(and|or)\\s+.*";
 
     /**
      * 使用'、;或注释截断SQL检查正则
      */
-    private static final Pattern SQL_COMMENT_PATTERN = Pattern
-        .compile("'.*(or|union|--|#|/\\*|;)", Pattern.CASE_INSENSITIVE);
+    private static final String SQL_COMMENT_REGEX = "'.*(or|union|--|#|/\\*|;)";
+
+    /**
+     * SQL 函数检查正则
+     */
+    private static final String SQL_FUNCTION_REGEX = "chr\\s*\\(|mid\\s*\\(| char\\s*\\(|sleep\\s*\\(|user\\s*\\(|show\\s+tables|show\\s+databases";
+
+    /**
+     * SQL 注入检查正则（合并 SQL 注释、SQL 语法及 SQL 函数检查正则）
+     */
+    private static final Pattern SQL_INJECTION_PATTERN = Pattern
+        .compile(SQL_COMMENT_REGEX + "|" + SQL_SYNTAX_REGEX + "|" + SQL_FUNCTION_REGEX, Pattern.CASE_INSENSITIVE);
 
     /**
      * SQL 语法关键字
@@ -52,11 +72,19 @@ public class SqlInjectionUtils {
     private static final String SQL_SYNTAX_KEYWORD = "and |exec |peformance_schema|information_schema|extractvalue|updatexml|geohash|gtid_subset|gtid_subtract|insert |select |delete |update |drop |count |chr |mid |master |truncate |char |declare |;|or |+|--";
 
     /**
-     * SQL 函数检查正则
+     * SQL 语法关键字匹配器
+     */
+    private static final KeywordMatcher SQL_SYNTAX_KEYWORD_MATCHER = new KeywordMatcher(SQL_SYNTAX_KEYWORD);
+
+    /**
+     * 自定义关键字匹配器缓存最大数量
      */
-    private static final String[] SQL_FUNCTION_PATTERN = new String[] {"chr\\s*\\(", "mid\\s*\\(", " char\\s*\\(",
-        "sleep\\s*\\(", "user\\s*\\(", "show\\s+tables", "user[\\s]*\\([\\s]*\\)", "show\\s+databases",
-        "sleep\\(\\d*\\)", "sleep\\(.*\\)",};
+    private static final int CUSTOM_KEYWORD_CACHE_MAX_SIZE = 256;
+
+    /**
+     * 自定义关键字匹配器缓存（Key：自定义关键字）
+     */
+    private static final Map<String, KeywordMatcher> CUSTOM_KEYWORD_MATCHER_CACHE = new ConcurrentHashMap<>();
 
     private static final String MESSAGE_TEMPLATE = "SQL 注入检查: 检查值=>{}<=存在 SQL 注入关键字, 关键字=>{}<=";
 
@@ -77,52 +105,191 @@ public class SqlInjectionUtils {
      * 检查参数是否存在 SQL 注入
      *
      * @param value         检查参数
-     * @param customKeyword 自定义关键字
+     * @param customKeyword 自定义关键字（多个关键字之间以 | 分隔）
      * @return true：非法；false：合法
      */
     public static boolean check(String value, String customKeyword) {
         if (CharSequenceUtil.isBlank(value)) {
             return false;
         }
-        // 处理是否包含 SQL 注释字符 || 检查是否包含 SQL 注入敏感字符
-        if (SQL_COMMENT_PATTERN.matcher(value).find() || SQL_SYNTAX_PATTERN.matcher(value).find()) {
-            log.warn("SQL 注入检查: 检查值=>{}<=存在 SQL 注释字符或 SQL 注入敏感字符", value);
+        // 检查是否包含 SQL 注释字符、SQL 注入敏感字符或 SQL 函数
+        Matcher matcher = SQL_INJECTION_PATTERN.matcher(value);
+        if (matcher.find()) {
+            log.warn(MESSAGE_TEMPLATE, value, matcher.group());
             return true;
         }
-        // 转换成小写再进行比较
-        value = value.toLowerCase().trim();
-        // 检查是否包含 SQL 语法关键字
-        if (checkKeyword(value, SQL_SYNTAX_KEYWORD.split("\\|"))) {
-            return true;
+        // 忽略首尾空白字符后进行比较（不区分大小写）
+        int start = 0;
+        int end = value.length();
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
         }
+        // 检查是否包含 SQL 语法关键字
+        String keyword = SQL_SYNTAX_KEYWORD_MATCHER.find(value, start, end);
         // 检查是否包含自定义关键字
-        if (CharSequenceUtil.isNotBlank(customKeyword) && checkKeyword(value, customKeyword.split("\\|"))) {
+        if (null == keyword && CharSequenceUtil.isNotBlank(customKeyword)) {
+            keyword = getCustomKeywordMatcher(customKeyword).find(value, start, end);
+        }
+        if (null != keyword) {
+            log.warn(MESSAGE_TEMPLATE, value, keyword);
             return true;
         }
-        // 检查是否包含 SQL 注入敏感字符
-        for (String pattern : SQL_FUNCTION_PATTERN) {
-            if (Pattern.matches(".*" + pattern + ".*", value)) {
-                log.warn(MESSAGE_TEMPLATE, value, pattern);
-                return true;
+        return false;
+    }
+
+    /**
+     * 检查是否为合法的 SQL 标识符
+     * <p>
+     * 由字母、数字、下划线组成且不以数字开头，允许携带一个表别名，例如：createTime、t1.create_time
+     * </p>
+     *
+     * @param value 检查参数
+     * @return true：合法；false：非法
+     * @since 2.7.5
+     */
+    public static boolean isIdentifier(CharSequence value) {
+        if (CharSequenceUtil.isEmpty(value)) {
+            return false;
+        }
+        boolean segmentStart = true;
+        boolean containsDot = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                if (segmentStart || containsDot) {
+                    return false;
+                }
+                containsDot = true;
+                segmentStart = true;
+                continue;
+            }
+            boolean letter = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+            if (!letter && (segmentStart || c < '0' || c > '9')) {
+                return false;
             }
+            segmentStart = false;
         }
-        return false;
+        return !segmentStart;
     }
 
     /**
-     * 检查参数是否存在关键字
+     * 获取自定义关键字匹配器
      *
-     * @param value    检查参数
-     * @param keywords 关键字列表
-     * @return true：非法；false：合法
+     * @param customKeyword 自定义关键字
+     * @return 自定义关键字匹配器
+     */
+    private static KeywordMatcher getCustomKeywordMatcher(String customKeyword) {
+        KeywordMatcher matcher = CUSTOM_KEYWORD_MATCHER_CACHE.get(customKeyword);
+        if (null != matcher) {
+            return matcher;
+        }
+        matcher = new KeywordMatcher(customKeyword);
+        // 自定义关键字通常为常量，超出数量限制时不再缓存，避免动态关键字导致内存无限增长
+        if (CUSTOM_KEYWORD_MATCHER_CACHE.size() < CUSTOM_KEYWORD_CACHE_MAX_SIZE) {
+            CUSTOM_KEYWORD_MATCHER_CACHE.putIfAbsent(customKeyword, matcher);
+        }
+        return matcher;
+    }
+
+    /**
+     * 关键字匹配器（Aho-Corasick 自动机，不区分大小写）
      */
-    private static boolean checkKeyword(String value, String[] keywords) {
-        for (String keyword : keywords) {
-            if (value.contains(keyword)) {
-                log.warn(MESSAGE_TEMPLATE, value, keyword);
-                return true;
+    private static final class KeywordMatcher {
+
+        /**
+         * 状态转移表（下标：状态）
+         */
+        private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+
+        /**
+         * 失配指针（下标：状态）
+         */
+        private final int[] fail;
+
+        /**
+         * 状态命中的关键字（下标：状态，含失配链上的关键字）
+         */
+        private final String[] output;
+
+        /**
+         * 构建关键字匹配器
+         *
+         * @param keywords 关键字（多个关键字之间以 | 分隔）
+         */
+        private KeywordMatcher(String keywords) {
+            List<String> outputList = new ArrayList<>();
+            transitions.add(new HashMap<>());
+            outputList.add(null);
+            // 构建字典树
+            for (String keyword : CharSequenceUtil.split(keywords, '|')) {
+                if (keyword.isEmpty()) {
+                    continue;
+                }
+                int state = 0;
+                for (int i = 0; i < keyword.length(); i++) {
+                    char c = Character.toLowerCase(keyword.charAt(i));
+                    Integer next = transitions.get(state).get(c);
+                    if (null == next) {
+                        next = transitions.size();
+                        transitions.add(new HashMap<>());
+                        outputList.add(null);
+                        transitions.get(state).put(c, next);
+                    }
+                    state = next;
+                }
+                if (null == outputList.get(state)) {
+                    outputList.set(state, keyword);
+                }
+            }
+            this.fail = new int[transitions.size()];
+            this.output = outputList.toArray(new String[0]);
+            // 广度优先构建失配指针
+            Queue<Integer> queue = new ArrayDeque<>(transitions.get(0).values());
+            while (!queue.isEmpty()) {
+                int state = queue.poll();
+                for (Map.Entry<Character, Integer> entry : transitions.get(state).entrySet()) {
+                    char c = entry.getKey();
+                    int child = entry.getValue();
+                    int failState = fail[state];
+                    while (failState != 0 && !transitions.get(failState).containsKey(c)) {
+                        failState = fail[failState];
+                    }
+                    Integer target = transitions.get(failState).get(c);
+                    fail[child] = null != target ? target : 0;
+                    if (null == output[child]) {
+                        output[child] = output[fail[child]];
+                    }
+                    queue.add(child);
+                }
             }
         }
-        return false;
+
+        /**
+         * 查找首个命中的关键字
+         *
+         * @param value 检查参数
+         * @param start 开始位置（包含）
+         * @param end   结束位置（不包含）
+         * @return 首个命中的关键字（未命中返回 null）
+         */
+        private String find(CharSequence value, int start, int end) {
+            int state = 0;
+            for (int i = start; i < end; i++) {
+                char c = Character.toLowerCase(value.charAt(i));
+                Integer next = transitions.get(state).get(c);
+                while (null == next && state != 0) {
+                    state = fail[state];
+                    next = transitions.get(state).get(c);
+                }
+                state = null != next ? next : 0;
+                if (null != output[state]) {
+                    return output[state];
+                }
+            }
+            return null;
+        }
     }
-}
\ No newline at end of file
+}
@@ -19,8 +19,12 @@ package top.continew.starter.data.mp.autoconfigure;
 import com.baomidou.mybatisplus.annotation.DbType;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
+import org.springframework.util.unit.DataSize;
+import top.continew.starter.data.core.enums.CountStrategy;
 import top.continew.starter.data.mp.autoconfigure.idgenerator.MyBatisPlusIdGeneratorProperties;
 
+import java.time.Duration;
+
 /**
  * MyBatis Plus 扩展配置属性
  *
@@ -54,6 +58,11 @@ public class MyBatisPlusExtensionProperties {
      */
     private PaginationProperties pagination;
 
+    /**
+     * 批量操作配置
+     */
+    private BatchProperties batch = new BatchProperties();
+
     /**
      * 启用乐观锁插件
      */
@@ -89,6 +98,21 @@ public class MyBatisPlusExtensionProperties {
          */
         private Long maxLimit = -1L;
 
+        /**
+         * 默认总数统计策略（可在分页查询条件中单独指定）
+         */
+        private CountStrategy countStrategy = CountStrategy.EXACT;
+
+        /**
+         * 总数缓存最大条数（总数统计策略为 CACHED 时生效）
+         */
+        private int countCacheMaxSize = 1000;
+
+        /**
+         * 总数缓存过期时间（总数统计策略为 CACHED 时生效）
+         */
+        private Duration countCacheTimeout = Duration.ofSeconds(30);
+
         public boolean isEnabled() {
             return enabled;
         }
@@ -120,6 +144,67 @@ public class MyBatisPlusExtensionProperties {
         public void setMaxLimit(Long maxLimit) {
             this.maxLimit = maxLimit;
         }
+
+        public CountStrategy getCountStrategy() {
+            return countStrategy;
+        }
+
+        public void setCountStrategy(CountStrategy countStrategy) {
+            this.countStrategy = countStrategy;
+        }
+
+        public int getCountCacheMaxSize() {
+            return countCacheMaxSize;
+        }
+
+        public void setCountCacheMaxSize(int countCacheMaxSize) {
+            this.countCacheMaxSize = countCacheMaxSize;
+        }
+
+        public Duration getCountCacheTimeout() {
+            return countCacheTimeout;
+        }
+
+        public void setCountCacheTimeout(Duration countCacheTimeout) {
+            this.countCacheTimeout = countCacheTimeout;
+        }
+    }
+
+    /**
+     * 批量操作配置属性
+     * <p>
+     * 批量插入、批量更新按行数及预估字节数分批执行，避免单条 SQL 超出数据库限制（例如：MySQL max_allowed_packet）
+     * </p>
+     *
+     * @since 2.7.5
+     */
+    public static class BatchProperties {
+
+        /**
+         * 单条 SQL 最大行数
+         */
+        private int maxRows = 1000;
+
+        /**
+         * 单条 SQL 最大字节数（预估）
+         */
+        private DataSize maxBytes = DataSize.ofMegabytes(4);
+
+        public int getMaxRows() {
+            return maxRows;
+        }
+
+        public void setMaxRows(int maxRows) {
+            this.maxRows = maxRows;
+        }
+
+        public DataSize getMaxBytes() {
+            return maxBytes;
+        }
+
+        public void setMaxBytes(DataSize maxBytes) {
+            this.maxBytes = maxBytes;
+        }
     }
 
     public boolean isEnabled() {
@@ -154,6 +239,14 @@ public class MyBatisPlusExtensionProperties {
         this.pagination = pagination;
     }
 
+    public BatchProperties getBatch() {
+        return batch;
+    }
+
+    public void setBatch(BatchProperties batch) {
+        this.batch = batch;
+    }
+
     public boolean isOptimisticLockerEnabled() {
         return optimisticLockerEnabled;
     }
@@ -18,6 +18,7 @@ package top.continew.starter.data.mp.autoconfigure;
 
 import cn.hutool.extra.spring.SpringUtil;
 import com.baomidou.mybatisplus.autoconfigure.MybatisPlusPropertiesCustomizer;
+import com.baomidou.mybatisplus.core.injector.ISqlInjector;
 import com.baomidou.mybatisplus.extension.plugins.MybatisPlusInterceptor;
 import com.baomidou.mybatisplus.extension.plugins.inner.BlockAttackInnerInterceptor;
 import com.baomidou.mybatisplus.extension.plugins.inner.InnerInterceptor;
@@ -40,6 +41,8 @@ import top.continew.starter.core.constant.PropertiesConstants;
 import top.continew.starter.core.util.GeneralPropertySourceFactory;
 import top.continew.starter.data.mp.autoconfigure.idgenerator.MyBatisPlusIdGeneratorConfiguration;
 import top.continew.starter.data.mp.handler.CompositeBaseEnumTypeHandler;
+import top.continew.starter.data.mp.injector.BatchSqlInjector;
+import top.continew.starter.data.mp.pagination.CountStrategyPaginationInnerInterceptor;
 
 import java.util.Map;
 
@@ -70,6 +73,17 @@ public class MybatisPlusAutoConfiguration {
             .setDefaultEnumTypeHandler(CompositeBaseEnumTypeHandler.class);
     }
 
+    /**
+     * SQL 注入器配置（注入批量插入、批量更新方法）
+     *
+     * @since 2.7.5
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ISqlInjector sqlInjector() {
+        return new BatchSqlInjector();
+    }
+
     /**
      * MyBatis Plus 插件配置
      */
@@ -111,8 +125,9 @@ public class MybatisPlusAutoConfiguration {
      */
     private PaginationInnerInterceptor paginationInnerInterceptor(MyBatisPlusExtensionProperties.PaginationProperties paginationProperties) {
         // 对于单一数据库类型来说，都建议配置该值，避免每次分页都去抓取数据库类型
-        PaginationInnerInterceptor paginationInnerInterceptor = new PaginationInnerInterceptor(paginationProperties
-            .getDbType());
+        PaginationInnerInterceptor paginationInnerInterceptor = new CountStrategyPaginationInnerInterceptor(
+            paginationProperties.getDbType(), paginationProperties.getCountStrategy(),
+            paginationProperties.getCountCacheMaxSize(), paginationProperties.getCountCacheTimeout());
         paginationInnerInterceptor.setOverflow(paginationProperties.isOverflow());
         paginationInnerInterceptor.setMaxLimit(paginationProperties.getMaxLimit());
         return paginationInnerInterceptor;
@@ -16,6 +16,7 @@
 
 package top.continew.starter.data.mp.base;
 
+import cn.hutool.core.collection.CollUtil;
 import cn.hutool.core.util.ClassUtil;
 import com.baomidou.mybatisplus.extension.conditions.query.LambdaQueryChainWrapper;
 import com.baomidou.mybatisplus.extension.conditions.query.QueryChainWrapper;
@@ -23,8 +24,13 @@ import com.baomidou.mybatisplus.extension.conditions.update.LambdaUpdateChainWra
 import com.baomidou.mybatisplus.extension.conditions.update.UpdateChainWrapper;
 import com.baomidou.mybatisplus.extension.toolkit.ChainWrappers;
 import com.baomidou.mybatisplus.extension.toolkit.Db;
+import top.continew.starter.data.mp.injector.BatchSqlInjector;
+import top.continew.starter.data.mp.injector.methods.InsertBatchValues;
+import top.continew.starter.data.mp.injector.methods.UpdateBatchByIdCaseWhen;
+import top.continew.starter.data.mp.util.BatchSqlHelper;
 
 import java.util.Collection;
+import java.util.List;
 
 /**
  * Mapper 基类
@@ -37,24 +43,63 @@ public interface BaseMapper<T> extends com.baomidou.mybatisplus.core.mapper.Base
 
     /**
      * 批量插入记录
+     * <p>
+     * 已注册 {@link BatchSqlInjector} 且数据库为 MySQL、PostgreSQL 时，使用多值插入分批执行，否则使用 JDBC 批处理
+     * </p>
      *
      * @param entityList 实体列表
      * @return 是否成功
      */
     default boolean insertBatch(Collection<T> entityList) {
-        return Db.saveBatch(entityList);
+        Class<T> entityClass = this.currentEntityClass();
+        if (CollUtil.isEmpty(entityList) || !BatchSqlHelper
+            .isSupported(this, entityClass, InsertBatchValues.METHOD_NAME)) {
+            return Db.saveBatch(entityList);
+        }
+        BatchSqlHelper.executeBatch(entityList, entityClass, BatchSqlHelper
+            .getInsertParameterCount(entityClass), this::insertBatchValues);
+        return true;
     }
 
     /**
      * 批量更新记录
+     * <p>
+     * 已注册 {@link BatchSqlInjector} 且数据库为 MySQL、PostgreSQL 时，使用 CASE WHEN 批量更新分批执行，否则使用 JDBC 批处理；
+     * 启用乐观锁（@Version）的实体始终使用 JDBC 批处理逐条更新，以保留乐观锁校验
+     * </p>
      *
      * @param entityList 实体列表
      * @return 是否成功
      */
     default boolean updateBatchById(Collection<T> entityList) {
-        return Db.updateBatchById(entityList);
+        Class<T> entityClass = this.currentEntityClass();
+        if (CollUtil.isEmpty(entityList) || BatchSqlHelper.isWithVersion(entityClass) || !BatchSqlHelper
+            .isSupported(this, entityClass, UpdateBatchByIdCaseWhen.METHOD_NAME)) {
+            return Db.updateBatchById(entityList);
+        }
+        BatchSqlHelper.executeBatch(entityList, entityClass, BatchSqlHelper
+            .getUpdateParameterCount(entityClass), this::updateBatchByIdCaseWhen);
+        return true;
     }
 
+    /**
+     * 批量插入记录（多值插入，需注册 {@link BatchSqlInjector}）
+     *
+     * @param entityList 实体列表
+     * @return 影响行数
+     * @since 2.7.5
+     */
+    int insertBatchValues(List<T> entityList);
+
+    /**
+     * 根据 ID 批量更新记录（CASE WHEN，需注册 {@link BatchSqlInjector}）
+     *
+     * @param entityList 实体列表
+     * @return 影响行数
+     * @since 2.7.5
+     */
+    int updateBatchByIdCaseWhen(List<T> entityList);
+
     /**
      * 链式查询
      *
@@ -29,6 +29,7 @@ import org.apache.ibatis.reflection.invoker.Invoker;
 import org.apache.ibatis.type.BaseTypeHandler;
 import org.apache.ibatis.type.JdbcType;
 import top.continew.starter.core.enums.BaseEnum;
+import top.continew.starter.core.util.BaseEnumUtils;
 
 import java.lang.reflect.Field;
 import java.math.BigDecimal;
@@ -146,6 +147,9 @@ public class MybatisBaseEnumTypeHandler<E extends Enum<E>> extends BaseTypeHandl
     }
 
     private E valueOf(Object value) {
+        if (BaseEnum.class.isAssignableFrom(this.enumClassType)) {
+            return (E)BaseEnumUtils.getByValue(this.enumClassType, value);
+        }
         E[] es = this.enumClassType.getEnumConstants();
         return Arrays.stream(es).filter(e -> equalsValue(value, getValue(e))).findAny().orElse(null);
     }
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.data.mp.injector;
+
+import com.baomidou.mybatisplus.core.injector.AbstractMethod;
+import com.baomidou.mybatisplus.core.injector.DefaultSqlInjector;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import org.apache.ibatis.session.Configuration;
+import top.continew.starter.data.mp.injector.methods.InsertBatchValues;
+import top.continew.starter.data.mp.injector.methods.UpdateBatchByIdCaseWhen;
+
+import java.util.List;
+
+/**
+ * SQL 注入器（在默认方法的基础上注入批量插入、批量更新方法）
+ *
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public class BatchSqlInjector extends DefaultSqlInjector {
+
+    @Override
+    public List<AbstractMethod> getMethodList(Configuration configuration, Class<?> mapperClass, TableInfo tableInfo) {
+        List<AbstractMethod> methodList = super.getMethodList(configuration, mapperClass, tableInfo);
+        // 批量方法基于主键，且不支持序列主键（每行均需单独获取序列值）
+        if (tableInfo.havePK() && null == tableInfo.getKeySequence()) {
+            methodList.add(new InsertBatchValues());
+            methodList.add(new UpdateBatchByIdCaseWhen());
+        }
+        return methodList;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.data.mp.injector.methods;
+
+import com.baomidou.mybatisplus.annotation.FieldStrategy;
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.core.injector.AbstractMethod;
+import com.baomidou.mybatisplus.core.metadata.TableFieldInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.toolkit.sql.SqlScriptUtils;
+import org.apache.ibatis.executor.keygen.Jdbc3KeyGenerator;
+import org.apache.ibatis.executor.keygen.KeyGenerator;
+import org.apache.ibatis.executor.keygen.NoKeyGenerator;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 批量插入（多值插入：INSERT INTO ... VALUES (...), (...)）
+ * <p>
+ * 按字段插入策略处理空值，与单条插入保持一致：单条插入时会忽略的值（NOT_NULL 的 null、NOT_EMPTY 的 null 或空字符串）插入 DEFAULT
+ * （使用数据库默认值），ALWAYS 等策略的字段始终绑定字段值；<br>
+ * 仅支持 MySQL、PostgreSQL 等支持 VALUES DEFAULT 的数据库。
+ * </p>
+ *
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public class InsertBatchValues extends AbstractMethod {
+
+    /**
+     * 方法名
+     */
+    public static final String METHOD_NAME = "insertBatchValues";
+
+    private static final String SQL_TEMPLATE = "<script>\nINSERT INTO %s %s VALUES %s\n</script>";
+    private static final String DEFAULT_VALUE = "DEFAULT";
+
+    public InsertBatchValues() {
+        super(METHOD_NAME);
+    }
+
+    @Override
+    public MappedStatement injectMappedStatement(Class<?> mapperClass, Class<?> modelClass, TableInfo tableInfo) {
+        List<String> columns = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        KeyGenerator keyGenerator = NoKeyGenerator.INSTANCE;
+        String keyProperty = null;
+        String keyColumn = null;
+        if (IdType.AUTO == tableInfo.getIdType()) {
+            // 自增主键由数据库生成并回填
+            keyGenerator = Jdbc3KeyGenerator.INSTANCE;
+            keyProperty = tableInfo.getKeyProperty();
+            keyColumn = tableInfo.getKeyColumn();
+        } else {
+            columns.add(tableInfo.getKeyColumn());
+            values.add(SqlScriptUtils.safeParam(ENTITY_DOT + tableInfo.getKeyProperty()));
+        }
+        for (TableFieldInfo fieldInfo : tableInfo.getFieldList()) {
+            if (FieldStrategy.NEVER == fieldInfo.getInsertStrategy()) {
+                continue;
+            }
+            columns.add(fieldInfo.getColumn());
+            values.add(this.getValueScript(fieldInfo));
+        }
+        String columnScript = LEFT_BRACKET + String.join(COMMA, columns) + RIGHT_BRACKET;
+        String valueScript = LEFT_BRACKET + String.join(COMMA, values) + RIGHT_BRACKET;
+        String valuesScript = SqlScriptUtils.convertForeach(valueScript, "list", null, ENTITY, COMMA);
+        String sql = SQL_TEMPLATE.formatted(tableInfo.getTableName(), columnScript, valuesScript);
+        SqlSource sqlSource = languageDriver.createSqlSource(configuration, sql, modelClass);
+        return this.addInsertMappedStatement(mapperClass, modelClass, methodName, sqlSource, keyGenerator, keyProperty,
+            keyColumn);
+    }
+
+    /**
+     * 获取字段值脚本（按插入策略处理，与单条插入保持一致）
+     * <p>
+     * NOT_NULL：值为 null 时插入 DEFAULT；NOT_EMPTY：字符串值为 null 或空字符串时插入 DEFAULT；
+     * 其他策略（ALWAYS 等）及插入时自动填充的字段：始终绑定字段值（null 即插入 NULL）
+     * </p>
+     *
+     * @param fieldInfo 字段信息
+     * @return 字段值脚本
+     */
+    private String getValueScript(TableFieldInfo fieldInfo) {
+        String param = SqlScriptUtils.safeParam(ENTITY_DOT + fieldInfo.getEl());
+        FieldStrategy insertStrategy = fieldInfo.getInsertStrategy();
+        boolean notEmpty = FieldStrategy.NOT_EMPTY == insertStrategy;
+        boolean notNull = notEmpty || FieldStrategy.NOT_NULL == insertStrategy
+            || FieldStrategy.DEFAULT == insertStrategy;
+        if (fieldInfo.isWithInsertFill() || !notNull) {
+            return param;
+        }
+        String property = ENTITY_DOT + fieldInfo.getProperty();
+        String condition = property + " != null";
+        if (notEmpty && fieldInfo.isCharSequence()) {
+            condition += " and " + property + " != ''";
+        }
+        return SqlScriptUtils.convertChoose(condition, param, DEFAULT_VALUE);
+    }
+}
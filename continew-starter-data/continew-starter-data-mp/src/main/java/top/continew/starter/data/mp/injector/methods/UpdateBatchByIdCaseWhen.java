@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.data.mp.injector.methods;
+
+import com.baomidou.mybatisplus.annotation.FieldStrategy;
+import com.baomidou.mybatisplus.core.injector.AbstractMethod;
+import com.baomidou.mybatisplus.core.metadata.TableFieldInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.toolkit.sql.SqlScriptUtils;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlSource;
+
+/**
+ * 根据 ID 批量更新（CASE WHEN：UPDATE ... SET col = CASE id WHEN ... THEN ... ELSE col END WHERE id IN (...)）
+ * <p>
+ * 与单条更新保持一致，按字段更新策略忽略 null（或空字符串）字段，被忽略的字段保持原值；逻辑删除字段、乐观锁字段不参与更新。<br>
+ * 该语句无法进行乐观锁校验，启用乐观锁（@Version）的实体由 {@link top.continew.starter.data.mp.base.BaseMapper#updateBatchById} 逐条更新。
+ * </p>
+ *
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public class UpdateBatchByIdCaseWhen extends AbstractMethod {
+
+    /**
+     * 方法名
+     */
+    public static final String METHOD_NAME = "updateBatchByIdCaseWhen";
+
+    private static final String SQL_TEMPLATE = "<script>\nUPDATE %s SET %s WHERE %s IN %s %s\n</script>";
+
+    public UpdateBatchByIdCaseWhen() {
+        super(METHOD_NAME);
+    }
+
+    @Override
+    public MappedStatement injectMappedStatement(Class<?> mapperClass, Class<?> modelClass, TableInfo tableInfo) {
+        String keyColumn = tableInfo.getKeyColumn();
+        String keyParam = SqlScriptUtils.safeParam(ENTITY_DOT + tableInfo.getKeyProperty());
+        StringBuilder setScript = new StringBuilder();
+        for (TableFieldInfo fieldInfo : tableInfo.getFieldList()) {
+            if (!isUpdatable(fieldInfo)) {
+                continue;
+            }
+            String column = fieldInfo.getColumn();
+            String valueParam = SqlScriptUtils.safeParam(ENTITY_DOT + fieldInfo.getEl());
+            String value = FieldStrategy.ALWAYS == fieldInfo.getUpdateStrategy()
+                ? valueParam
+                : SqlScriptUtils.convertChoose(this.getUpdateTest(fieldInfo), valueParam, column);
+            String whenScript = SqlScriptUtils
+                .convertForeach("WHEN " + keyParam + " THEN " + value, "list", null, ENTITY, null);
+            setScript.append(NEWLINE)
+                .append(column)
+                .append(" = CASE ")
+                .append(keyColumn)
+                .append(SPACE)
+                .append(whenScript)
+                .append(" ELSE ")
+                .append(column)
+                .append(" END")
+                .append(COMMA);
+        }
+        String setSql = SqlScriptUtils.convertTrim(setScript.toString(), null, null, null, COMMA);
+        String keyScript = SqlScriptUtils.convertForeach(keyParam, "list", null, ENTITY, COMMA);
+        String sql = SQL_TEMPLATE.formatted(tableInfo.getTableName(), setSql, keyColumn, LEFT_BRACKET + keyScript
+            + RIGHT_BRACKET, tableInfo.getLogicDeleteSql(true, true));
+        SqlSource sqlSource = languageDriver.createSqlSource(configuration, sql, modelClass);
+        return this.addUpdateMappedStatement(mapperClass, modelClass, methodName, sqlSource);
+    }
+
+    /**
+     * 字段是否参与更新
+     *
+     * @param fieldInfo 字段信息
+     * @return 是否参与更新
+     */
+    public static boolean isUpdatable(TableFieldInfo fieldInfo) {
+        return !fieldInfo.isLogicDelete() && !fieldInfo.isVersion() && FieldStrategy.NEVER != fieldInfo
+            .getUpdateStrategy();
+    }
+
+    /**
+     * 获取字段参与更新的判断条件
+     *
+     * @param fieldInfo 字段信息
+     * @return 判断条件
+     */
+    private String getUpdateTest(TableFieldInfo fieldInfo) {
+        String property = ENTITY_DOT + fieldInfo.getProperty();
+        if (FieldStrategy.NOT_EMPTY == fieldInfo.getUpdateStrategy() && fieldInfo.isCharSequence()) {
+            return property + " != null and " + property + " != ''";
+        }
+        return property + " != null";
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.data.mp.pagination;
+
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import top.continew.starter.data.core.enums.CountStrategy;
+
+import java.io.Serial;
+import java.util.List;
+
+/**
+ * 支持指定总数统计策略的分页对象
+ * <p>
+ * 总数统计策略为 {@link CountStrategy#NONE} 时，不执行 COUNT 查询，而是多查询一条数据判断是否存在下一页，
+ * 此时总数为已知记录数的下限（存在下一页时加 1），前端分页组件据此即可展示下一页
+ * </p>
+ *
+ * @param <T> 数据类型
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public class CountStrategyPage<T> extends Page<T> {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 总数统计策略（为空时使用分页插件配置的默认策略）
+     */
+    private final CountStrategy countStrategy;
+
+    /**
+     * 每页条数（不含多查询的一条数据）
+     */
+    private long pageSize;
+
+    public CountStrategyPage(long current, long size, CountStrategy countStrategy) {
+        super(current, CountStrategy.NONE == countStrategy && size >= 0
+            ? size + 1
+            : size, CountStrategy.NONE != countStrategy);
+        this.countStrategy = countStrategy;
+        this.pageSize = size;
+    }
+
+    @Override
+    public long offset() {
+        long current = this.getCurrent();
+        return current <= 1 ? 0L : (current - 1) * pageSize;
+    }
+
+    @Override
+    public Page<T> setRecords(List<T> records) {
+        if (CountStrategy.NONE != countStrategy || null == records) {
+            return super.setRecords(records);
+        }
+        boolean hasNext = pageSize >= 0 && records.size() > pageSize;
+        List<T> pageRecords = hasNext ? records.subList(0, (int)pageSize) : records;
+        super.setRecords(pageRecords);
+        this.setTotal(this.offset() + pageRecords.size() + (hasNext ? 1 : 0));
+        return this;
+    }
+
+    /**
+     * 应用单页最大条数限制
+     * <p>
+     * 总数统计策略为 {@link CountStrategy#NONE} 时，先按限制截断每页条数，再多查询一条数据，
+     * 避免查询条数被截断为每页条数后无法判断是否存在下一页
+     * </p>
+     *
+     * @param limit 单页最大条数
+     */
+    public void applyMaxLimit(long limit) {
+        if (limit <= 0) {
+            return;
+        }
+        if (CountStrategy.NONE != countStrategy) {
+            if (this.getSize() < 0 || this.getSize() > limit) {
+                this.setSize(limit);
+                this.pageSize = limit;
+            }
+            return;
+        }
+        if (pageSize < 0 || pageSize > limit) {
+            this.pageSize = limit;
+        }
+        this.setSize(pageSize + 1);
+    }
+
+    public CountStrategy getCountStrategy() {
+        return countStrategy;
+    }
+
+    public long getPageSize() {
+        return pageSize;
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.data.mp.pagination;
+
+import cn.hutool.cache.CacheUtil;
+import cn.hutool.cache.impl.LRUCache;
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.util.ReUtil;
+import com.baomidou.mybatisplus.annotation.DbType;
+import com.baomidou.mybatisplus.core.metadata.IPage;
+import com.baomidou.mybatisplus.core.toolkit.CollectionUtils;
+import com.baomidou.mybatisplus.core.toolkit.ParameterUtils;
+import com.baomidou.mybatisplus.core.toolkit.PluginUtils;
+import com.baomidou.mybatisplus.extension.plugins.inner.PaginationInnerInterceptor;
+import com.baomidou.mybatisplus.extension.toolkit.JdbcUtils;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import top.continew.starter.data.core.enums.CountStrategy;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 支持多种总数统计策略的分页插件
+ * <p>
+ * 在 {@link PaginationInnerInterceptor} 的基础上，根据 {@link CountStrategyPage} 指定（或默认）的策略统计总数：
+ * <ul>
+ * <li>{@link CountStrategy#EXACT}：精确统计（原有行为）</li>
+ * <li>{@link CountStrategy#NONE}：不统计（由调用方多查询一条数据判断是否存在下一页）</li>
+ * <li>{@link CountStrategy#ESTIMATED}：基于执行计划估算（支持 MySQL、MariaDB、PostgreSQL，其他数据库回退为精确统计）</li>
+ * <li>{@link CountStrategy#CACHED}：按（查询语句，查询条件）缓存精确统计结果</li>
+ * </ul>
+ * </p>
+ *
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public class CountStrategyPaginationInnerInterceptor extends PaginationInnerInterceptor {
+
+    private static final String ESTIMATE_MS_ID_SUFFIX = "_mpEstimate";
+    private static final String MYSQL_ROWS = "rows";
+    private static final String MYSQL_FILTERED = "filtered";
+    private static final String POSTGRESQL_ROWS_PATTERN = "rows=(\\d+)";
+
+    /**
+     * 默认总数统计策略
+     */
+    private final CountStrategy defaultCountStrategy;
+
+    /**
+     * 总数缓存（Key：COUNT 语句及其参数）
+     */
+    private final LRUCache<CacheKey, Long> countCache;
+
+    public CountStrategyPaginationInnerInterceptor(DbType dbType,
+                                                   CountStrategy defaultCountStrategy,
+                                                   int countCacheMaxSize,
+                                                   Duration countCacheTimeout) {
+        super(dbType);
+        this.defaultCountStrategy = null != defaultCountStrategy ? defaultCountStrategy : CountStrategy.EXACT;
+        this.countCache = CacheUtil.newLRUCache(countCacheMaxSize, countCacheTimeout.toMillis());
+    }
+
+    @Override
+    public boolean willDoQuery(Executor executor,
+                               MappedStatement ms,
+                               Object parameter,
+                               RowBounds rowBounds,
+                               ResultHandler resultHandler,
+                               BoundSql boundSql) throws SQLException {
+        IPage<?> page = ParameterUtils.findPage(parameter).orElse(null);
+        if (page == null || page.getSize() < 0 || !page.searchCount() || resultHandler != Executor.NO_RESULT_HANDLER) {
+            return true;
+        }
+        CountStrategy countStrategy = this.getCountStrategy(page);
+        // 自定义 COUNT 语句或精确统计，沿用原有逻辑
+        if (CountStrategy.ESTIMATED != countStrategy && CountStrategy.CACHED != countStrategy || null != page
+            .countId()) {
+            return super.willDoQuery(executor, ms, parameter, rowBounds, resultHandler, boundSql);
+        }
+        if (CountStrategy.ESTIMATED == countStrategy) {
+            Long total = this.estimateCount(executor, ms, parameter, boundSql);
+            if (null == total) {
+                return super.willDoQuery(executor, ms, parameter, rowBounds, resultHandler, boundSql);
+            }
+            page.setTotal(total);
+            // 与精确统计一致：总数为 0 时跳过数据查询，当前页超出总页数时按溢出配置处理
+            return this.continuePage(page);
+        }
+        MappedStatement countMs = this.buildAutoCountMappedStatement(ms);
+        String countSqlStr = this.autoCountSql(page, boundSql.getSql());
+        BoundSql countSql = this.buildBoundSql(countMs, countSqlStr, boundSql, parameter);
+        CacheKey cacheKey = executor.createCacheKey(countMs, parameter, rowBounds, countSql);
+        Long total = countCache.get(cacheKey, false);
+        if (null == total) {
+            List<Object> result = executor.query(countMs, parameter, rowBounds, resultHandler, cacheKey, countSql);
+            total = CollectionUtils.isNotEmpty(result) ? Convert.toLong(result.get(0), 0L) : 0L;
+            countCache.put(cacheKey, total);
+        }
+        page.setTotal(total);
+        return this.continuePage(page);
+    }
+
+    @Override
+    protected void handlerLimit(IPage<?> page, Long limit) {
+        if (page instanceof CountStrategyPage<?> countStrategyPage) {
+            if (null != limit) {
+                countStrategyPage.applyMaxLimit(limit);
+            }
+            return;
+        }
+        super.handlerLimit(page, limit);
+    }
+
+    /**
+     * 清空总数缓存
+     */
+    public void clearCountCache() {
+        countCache.clear();
+    }
+
+    /**
+     * 获取默认总数统计策略
+     *
+     * @return 默认总数统计策略
+     */
+    public CountStrategy getDefaultCountStrategy() {
+        return defaultCountStrategy;
+    }
+
+    /**
+     * 获取分页对象的总数统计策略
+     * <p>
+     * 非 {@link CountStrategyPage} 分页对象无法自行判断是否存在下一页，{@link CountStrategy#NONE} 按精确统计处理
+     * </p>
+     *
+     * @param page 分页对象
+     * @return 总数统计策略
+     */
+    private CountStrategy getCountStrategy(IPage<?> page) {
+        if (page instanceof CountStrategyPage<?> countStrategyPage && null != countStrategyPage.getCountStrategy()) {
+            return countStrategyPage.getCountStrategy();
+        }
+        return CountStrategy.NONE == defaultCountStrategy ? CountStrategy.EXACT : defaultCountStrategy;
+    }
+
+    /**
+     * 基于执行计划估算总数
+     *
+     * @param executor  执行器
+     * @param ms        查询语句
+     * @param parameter 参数
+     * @param boundSql  原始 SQL
+     * @return 估算总数（不支持或估算失败时返回 null）
+     */
+    private Long estimateCount(Executor executor,
+                               MappedStatement ms,
+                               Object parameter,
+                               BoundSql boundSql) throws SQLException {
+        DbType dbType = null != this.getDbType() ? this.getDbType() : JdbcUtils.getDbType(executor);
+        if (DbType.MYSQL != dbType && DbType.MARIADB != dbType && DbType.POSTGRE_SQL != dbType) {
+            return null;
+        }
+        MappedStatement explainMs = this.buildExplainMappedStatement(ms);
+        BoundSql explainSql = this.buildBoundSql(explainMs, "EXPLAIN " + boundSql.getSql(), boundSql, parameter);
+        CacheKey cacheKey = executor.createCacheKey(explainMs, parameter, RowBounds.DEFAULT, explainSql);
+        List<Object> result = executor
+            .query(explainMs, parameter, RowBounds.DEFAULT, Executor.NO_RESULT_HANDLER, cacheKey, explainSql);
+        if (CollUtil.isEmpty(result) || !(result.get(0) instanceof Map<?, ?> plan)) {
+            return null;
+        }
+        if (DbType.POSTGRE_SQL == dbType) {
+            // 首行计划，例如：Seq Scan on sys_user  (cost=0.00..1.10 rows=10 width=100)
+            Object queryPlan = CollUtil.getFirst(plan.values());
+            if (null == queryPlan) {
+                return null;
+            }
+            return Convert.toLong(ReUtil.get(POSTGRESQL_ROWS_PATTERN, queryPlan.toString(), 1));
+        }
+        // MySQL 驱动表预估扫描行数 * 过滤比例
+        Long rows = null;
+        Double filtered = null;
+        for (Map.Entry<?, ?> entry : plan.entrySet()) {
+            String column = String.valueOf(entry.getKey());
+            if (MYSQL_ROWS.equalsIgnoreCase(column)) {
+                rows = Convert.toLong(entry.getValue());
+            } else if (MYSQL_FILTERED.equalsIgnoreCase(column)) {
+                filtered = Convert.toDouble(entry.getValue());
+            }
+        }
+        if (null == rows) {
+            return null;
+        }
+        return null != filtered ? Math.round(rows * filtered / 100) : rows;
+    }
+
+    /**
+     * 构建执行计划查询语句
+     *
+     * @param ms 原始查询语句
+     * @return 执行计划查询语句
+     */
+    private MappedStatement buildExplainMappedStatement(MappedStatement ms) {
+        String id = ms.getId() + ESTIMATE_MS_ID_SUFFIX;
+        ResultMap resultMap = new ResultMap.Builder(ms.getConfiguration(), id, Map.class, Collections.emptyList())
+            .build();
+        return new MappedStatement.Builder(ms.getConfiguration(), id, ms.getSqlSource(), ms.getSqlCommandType())
+            .resource(ms.getResource())
+            .fetchSize(ms.getFetchSize())
+            .statementType(ms.getStatementType())
+            .timeout(ms.getTimeout())
+            .resultSetType(ms.getResultSetType())
+            .resultMaps(Collections.singletonList(resultMap))
+            .useCache(false)
+            .build();
+    }
+
+    /**
+     * 基于原始 SQL 的参数构建新的 SQL
+     *
+     * @param ms        查询语句
+     * @param sql       SQL
+     * @param boundSql  原始 SQL
+     * @param parameter 参数
+     * @return 新的 SQL
+     */
+    private BoundSql buildBoundSql(MappedStatement ms, String sql, BoundSql boundSql, Object parameter) {
+        PluginUtils.MPBoundSql mpBoundSql = PluginUtils.mpBoundSql(boundSql);
+        BoundSql newBoundSql = new BoundSql(ms.getConfiguration(), sql, mpBoundSql.parameterMappings(), parameter);
+        PluginUtils.setAdditionalParameter(newBoundSql, mpBoundSql.additionalParameters());
+        return newBoundSql;
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.data.mp.util;
+
+import cn.hutool.extra.spring.SpringUtil;
+import com.baomidou.mybatisplus.core.metadata.TableFieldInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfo;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.baomidou.mybatisplus.core.toolkit.MybatisUtils;
+import org.apache.ibatis.session.Configuration;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import top.continew.starter.core.constant.StringConstants;
+import top.continew.starter.data.core.enums.DatabaseType;
+import top.continew.starter.data.core.util.MetaUtils;
+import top.continew.starter.data.mp.autoconfigure.MyBatisPlusExtensionProperties;
+import top.continew.starter.data.mp.injector.methods.UpdateBatchByIdCaseWhen;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 批量 SQL 助手
+ * <p>
+ * 批量插入、批量更新按行数、参数数量及预估字节数分批，多批次在同一事务中执行
+ * </p>
+ *
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public class BatchSqlHelper {
+
+    /**
+     * 单条 SQL 最大参数数量（MySQL、PostgreSQL 均限制为 65535）
+     */
+    private static final int MAX_PARAMETERS = 65535;
+
+    /**
+     * 非字符串字段预估字节数
+     */
+    private static final int FIXED_FIELD_BYTES = 16;
+
+    /**
+     * 数据源是否支持多值插入、CASE WHEN 批量更新缓存
+     */
+    private static final Map<DataSource, Boolean> DATA_SOURCE_SUPPORTED_CACHE = new ConcurrentHashMap<>();
+
+    private BatchSqlHelper() {
+    }
+
+    /**
+     * 是否支持批量 SQL
+     * <p>
+     * 需注册 {@link top.continew.starter.data.mp.injector.BatchSqlInjector}，且数据库为 MySQL 或 PostgreSQL
+     * </p>
+     *
+     * @param mapper      Mapper
+     * @param entityClass 实体类型
+     * @param methodName  注入的方法名
+     * @return 是否支持
+     */
+    public static boolean isSupported(Object mapper, Class<?> entityClass, String methodName) {
+        if (null == TableInfoHelper.getTableInfo(entityClass)) {
+            return false;
+        }
+        Configuration configuration = MybatisUtils.getSqlSessionFactory(MybatisUtils.getMybatisMapperProxy(mapper))
+            .getConfiguration();
+        if (!hasStatement(mapper, configuration, methodName)) {
+            return false;
+        }
+        DataSource dataSource = configuration.getEnvironment().getDataSource();
+        return DATA_SOURCE_SUPPORTED_CACHE.computeIfAbsent(dataSource, key -> {
+            DatabaseType databaseType = MetaUtils.getDatabaseType(key);
+            return DatabaseType.MYSQL == databaseType || DatabaseType.POSTGRE_SQL == databaseType;
+        });
+    }
+
+    /**
+     * 获取多值插入单行参数数量（主键 + 全部字段）
+     *
+     * @param entityClass 实体类型
+     * @return 单行参数数量
+     */
+    public static int getInsertParameterCount(Class<?> entityClass) {
+        return TableInfoHelper.getTableInfo(entityClass).getFieldList().size() + 1;
+    }
+
+    /**
+     * 获取 CASE WHEN 批量更新单行参数数量（每个更新字段 WHEN ? THEN ? 各 2 个，另有 IN 列表中的主键 1 个）
+     *
+     * @param entityClass 实体类型
+     * @return 单行参数数量
+     */
+    public static int getUpdateParameterCount(Class<?> entityClass) {
+        TableInfo tableInfo = TableInfoHelper.getTableInfo(entityClass);
+        int updatableCount = (int)tableInfo.getFieldList()
+            .stream()
+            .filter(UpdateBatchByIdCaseWhen::isUpdatable)
+            .count();
+        return updatableCount * 2 + 1;
+    }
+
+    /**
+     * 是否启用乐观锁
+     *
+     * @param entityClass 实体类型
+     * @return 是否启用乐观锁
+     */
+    public static boolean isWithVersion(Class<?> entityClass) {
+        TableInfo tableInfo = TableInfoHelper.getTableInfo(entityClass);
+        return null != tableInfo && tableInfo.isWithVersion();
+    }
+
+    /**
+     * 分批执行
+     * <p>
+     * 存在多个批次且当前不在事务中时，在同一事务中执行所有批次
+     * </p>
+     *
+     * @param entityList       实体列表
+     * @param entityClass      实体类型
+     * @param parametersPerRow 单行参数数量
+     * @param consumer         批次处理
+     * @param <T>              实体类型
+     */
+    public static <T> void executeBatch(Collection<T> entityList,
+                                        Class<T> entityClass,
+                                        int parametersPerRow,
+                                        Consumer<List<T>> consumer) {
+        List<List<T>> batchList = split(entityList, entityClass, parametersPerRow);
+        if (batchList.size() > 1 && !TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionTemplate transactionTemplate = SpringUtil.getBeanFactory()
+                .getBeanProvider(TransactionTemplate.class)
+                .getIfAvailable();
+            if (null != transactionTemplate) {
+                transactionTemplate.executeWithoutResult(status -> batchList.forEach(consumer));
+                return;
+            }
+        }
+        batchList.forEach(consumer);
+    }
+
+    /**
+     * 拆分批次
+     *
+     * @param entityList       实体列表
+     * @param entityClass      实体类型
+     * @param parametersPerRow 单行参数数量
+     * @param <T>              实体类型
+     * @return 批次列表
+     */
+    public static <T> List<List<T>> split(Collection<T> entityList, Class<T> entityClass, int parametersPerRow) {
+        MyBatisPlusExtensionProperties.BatchProperties properties = Optional.ofNullable(SpringUtil.getBeanFactory()
+            .getBeanProvider(MyBatisPlusExtensionProperties.class)
+            .getIfAvailable())
+            .map(MyBatisPlusExtensionProperties::getBatch)
+            .orElseGet(MyBatisPlusExtensionProperties.BatchProperties::new);
+        TableInfo tableInfo = TableInfoHelper.getTableInfo(entityClass);
+        int maxRows = Math.max(1, Math.min(properties.getMaxRows(), MAX_PARAMETERS / Math.max(1, parametersPerRow)));
+        long maxBytes = properties.getMaxBytes().toBytes();
+        List<List<T>> batchList = new ArrayList<>(entityList.size() / maxRows + 1);
+        List<T> batch = new ArrayList<>(Math.min(maxRows, entityList.size()));
+        long batchBytes = 0;
+        for (T entity : entityList) {
+            long rowBytes = estimateBytes(tableInfo, entity);
+            if (!batch.isEmpty() && (batch.size() >= maxRows || batchBytes + rowBytes > maxBytes)) {
+                batchList.add(batch);
+                batch = new ArrayList<>(maxRows);
+                batchBytes = 0;
+            }
+            batch.add(entity);
+            batchBytes += rowBytes;
+        }
+        if (!batch.isEmpty()) {
+            batchList.add(batch);
+        }
+        return batchList;
+    }
+
+    /**
+     * Mapper 是否存在指定方法
+     *
+     * @param mapper        Mapper
+     * @param configuration MyBatis 配置
+     * @param methodName    方法名
+     * @return 是否存在
+     */
+    private static boolean hasStatement(Object mapper, Configuration configuration, String methodName) {
+        for (Class<?> mapperInterface : mapper.getClass().getInterfaces()) {
+            if (configuration.hasStatement(mapperInterface.getName() + StringConstants.DOT + methodName, false)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 预估单行数据字节数（字符串按 UTF-8 最大 3 字节计算）
+     *
+     * @param tableInfo 表信息
+     * @param entity    实体
+     * @return 预估字节数
+     */
+    private static long estimateBytes(TableInfo tableInfo, Object entity) {
+        long bytes = FIXED_FIELD_BYTES;
+        for (TableFieldInfo fieldInfo : tableInfo.getFieldList()) {
+            Object value = fieldInfo.isCharSequence() || byte[].class == fieldInfo.getPropertyType()
+                ? tableInfo.getPropertyValue(entity, fieldInfo.getProperty())
+                : null;
+            if (value instanceof CharSequence charSequence) {
+                bytes += charSequence.length() * 3L;
+            } else if (value instanceof byte[] byteArray) {
+                bytes += byteArray.length;
+            } else {
+                bytes += FIXED_FIELD_BYTES;
+            }
+        }
+        return bytes;
+    }
+}
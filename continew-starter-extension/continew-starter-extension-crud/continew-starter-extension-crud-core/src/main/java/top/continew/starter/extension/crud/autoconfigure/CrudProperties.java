@@ -35,6 +35,24 @@ public class CrudProperties {
     @NestedConfigurationProperty
     private CrudTreeProperties tree = new CrudTreeProperties();
 
+    /**
+     * 用户昵称缓存配置
+     */
+    @NestedConfigurationProperty
+    private CrudUserNicknameCacheProperties userNicknameCache = new CrudUserNicknameCacheProperties();
+
+    /**
+     * 导出配置
+     */
+    @NestedConfigurationProperty
+    private CrudExportProperties export = new CrudExportProperties();
+
+    /**
+     * 批量操作配置
+     */
+    @NestedConfigurationProperty
+    private CrudBatchProperties batch = new CrudBatchProperties();
+
     public CrudTreeProperties getTree() {
         return tree;
     }
@@ -42,4 +60,28 @@ public class CrudProperties {
     public void setTree(CrudTreeProperties tree) {
         this.tree = tree;
     }
+
+    public CrudUserNicknameCacheProperties getUserNicknameCache() {
+        return userNicknameCache;
+    }
+
+    public void setUserNicknameCache(CrudUserNicknameCacheProperties userNicknameCache) {
+        this.userNicknameCache = userNicknameCache;
+    }
+
+    public CrudExportProperties getExport() {
+        return export;
+    }
+
+    public void setExport(CrudExportProperties export) {
+        this.export = export;
+    }
+
+    public CrudBatchProperties getBatch() {
+        return batch;
+    }
+
+    public void setBatch(CrudBatchProperties batch) {
+        this.batch = batch;
+    }
 }
@@ -16,6 +16,7 @@
 
 package top.continew.starter.extension.crud.autoconfigure;
 
+import cn.hutool.core.text.CharSequenceUtil;
 import cn.hutool.core.util.ArrayUtil;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.lang.NonNull;
@@ -52,7 +53,9 @@ public class CrudRequestMappingHandlerMapping extends RequestMappingHandlerMappi
         CrudRequestMapping crudRequestMapping = handlerType.getDeclaredAnnotation(CrudRequestMapping.class);
         // 过滤 API，如果非本类中定义，且 API 列表中不包含，则忽略
         Api[] apiArr = crudRequestMapping.api();
-        Api api = ExceptionUtils.exToNull(() -> Api.valueOf(method.getName().toUpperCase()));
+        // 方法名转为 API 名称（e.g. cursorPage -> CURSOR_PAGE）
+        Api api = ExceptionUtils.exToNull(() -> Api.valueOf(CharSequenceUtil.toUnderlineCase(method.getName())
+            .toUpperCase()));
         if (method.getDeclaringClass() != handlerType && !ArrayUtil.contains(apiArr, api)) {
             return null;
         }
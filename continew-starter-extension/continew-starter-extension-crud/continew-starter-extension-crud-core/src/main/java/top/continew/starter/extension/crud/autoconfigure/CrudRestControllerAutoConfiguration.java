@@ -21,14 +21,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import top.continew.starter.extension.crud.annotation.CrudApi;
 import top.continew.starter.extension.crud.aop.CrudApiAnnotationAdvisor;
 import top.continew.starter.extension.crud.aop.CrudApiAnnotationInterceptor;
+import top.continew.starter.extension.crud.container.UserNicknameContainer;
 import top.continew.starter.extension.crud.handler.CrudApiHandler;
 import top.continew.starter.extension.crud.handler.CrudApiStrategy;
+import top.continew.starter.extension.crud.service.CommonUserService;
 
 import java.util.List;
 
@@ -74,6 +77,16 @@ public class CrudRestControllerAutoConfiguration {
         return new CrudApiAnnotationInterceptor();
     }
 
+    /**
+     * 用户昵称数据源容器（带本地缓存及批量查询）
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(CommonUserService.class)
+    public UserNicknameContainer userNicknameContainer(CommonUserService commonUserService, CrudProperties properties) {
+        return new UserNicknameContainer(commonUserService, properties.getUserNicknameCache());
+    }
+
     @PostConstruct
     public void postConstruct() {
         log.debug("[ContiNew Starter] - Auto Configuration 'Extension-CRUD REST Controller' completed initialization.");
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.extension.crud.autoconfigure;
+
+import java.time.Duration;
+
+/**
+ * CRUD 用户昵称缓存配置属性
+ *
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public class CrudUserNicknameCacheProperties {
+
+    /**
+     * 是否启用本地缓存（节点本地缓存，失效操作不会同步到其他节点，多节点部署时请谨慎启用）
+     */
+    private boolean enabled = false;
+
+    /**
+     * 最大缓存条数
+     */
+    private int maxSize = 10000;
+
+    /**
+     * 过期时间（自写入起计算）
+     */
+    private Duration timeout = Duration.ofMinutes(5);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.extension.crud.container;
+
+import cn.crane4j.core.container.Container;
+import cn.hutool.cache.CacheUtil;
+import cn.hutool.cache.impl.LRUCache;
+import cn.hutool.core.collection.CollUtil;
+import top.continew.starter.extension.crud.autoconfigure.CrudUserNicknameCacheProperties;
+import top.continew.starter.extension.crud.constant.ContainerPool;
+import top.continew.starter.extension.crud.service.CommonUserService;
+
+import java.util.*;
+
+/**
+ * 用户昵称数据源容器（Crane4j 数据填充组件使用）
+ * <p>
+ * 对 {@link CommonUserService} 的装饰：优先读取本地缓存，未命中的 ID 合并为一次 {@link CommonUserService#getNicknameByIds(Collection)} 批量查询，
+ * 查询不到昵称的 ID 同样缓存（空值），避免重复查询。
+ * 用户信息变更后请调用 {@link #evict(Collection)} 或 {@link #clear()} 使缓存失效。<br>
+ * 注意：缓存为节点本地缓存，失效操作不会同步到其他节点，多节点部署时其他节点在过期前可能读取到旧昵称，请结合业务容忍度配置过期时间或不启用缓存。
+ * </p>
+ *
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public class UserNicknameContainer implements Container<Long> {
+
+    private final CommonUserService commonUserService;
+    private final LRUCache<Long, Optional<String>> cache;
+
+    public UserNicknameContainer(CommonUserService commonUserService, CrudUserNicknameCacheProperties properties) {
+        this.commonUserService = commonUserService;
+        this.cache = properties.isEnabled()
+            ? CacheUtil.newLRUCache(properties.getMaxSize(), properties.getTimeout().toMillis())
+            : null;
+    }
+
+    @Override
+    public String getNamespace() {
+        return ContainerPool.USER_NICKNAME;
+    }
+
+    @Override
+    public Map<Long, ?> get(Collection<Long> keys) {
+        if (CollUtil.isEmpty(keys)) {
+            return Collections.emptyMap();
+        }
+        Set<Long> ids = new HashSet<>(keys);
+        ids.remove(null);
+        if (null == cache) {
+            return commonUserService.getNicknameByIds(ids);
+        }
+        Map<Long, String> nicknameMap = new HashMap<>(ids.size());
+        List<Long> missIds = new ArrayList<>();
+        for (Long id : ids) {
+            // 不刷新最后访问时间，保证缓存按写入时间过期
+            Optional<String> nickname = cache.get(id, false);
+            if (null == nickname) {
+                missIds.add(id);
+            } else {
+                nickname.ifPresent(value -> nicknameMap.put(id, value));
+            }
+        }
+        if (missIds.isEmpty()) {
+            return nicknameMap;
+        }
+        Map<Long, String> loadedMap = commonUserService.getNicknameByIds(missIds);
+        for (Long id : missIds) {
+            String nickname = null != loadedMap ? loadedMap.get(id) : null;
+            // 查询不到昵称时缓存空值
+            cache.put(id, Optional.ofNullable(nickname));
+            if (null != nickname) {
+                nicknameMap.put(id, nickname);
+            }
+        }
+        return nicknameMap;
+    }
+
+    /**
+     * 使指定用户的昵称缓存失效
+     *
+     * @param ids 用户 ID 列表
+     */
+    public void evict(Collection<Long> ids) {
+        if (null == cache || CollUtil.isEmpty(ids)) {
+            return;
+        }
+        ids.forEach(cache::remove);
+    }
+
+    /**
+     * 使指定用户的昵称缓存失效
+     *
+     * @param id 用户 ID
+     */
+    public void evict(Long id) {
+        if (null == cache || null == id) {
+            return;
+        }
+        cache.remove(id);
+    }
+
+    /**
+     * 清空昵称缓存
+     */
+    public void clear() {
+        if (null != cache) {
+            cache.clear();
+        }
+    }
+}
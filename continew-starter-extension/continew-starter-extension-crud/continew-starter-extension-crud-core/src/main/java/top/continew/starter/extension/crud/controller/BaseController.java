@@ -17,25 +17,34 @@
 package top.continew.starter.extension.crud.controller;
 
 import cn.hutool.core.lang.tree.Tree;
+import cn.hutool.core.text.CharSequenceUtil;
 import com.feiniaojin.gracefulresponse.api.ExcludeFromGracefulResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import top.continew.starter.extension.crud.annotation.CrudApi;
 import top.continew.starter.extension.crud.enums.Api;
+import top.continew.starter.extension.crud.model.query.CursorPageQuery;
 import top.continew.starter.extension.crud.model.query.PageQuery;
 import top.continew.starter.extension.crud.model.query.SortQuery;
 import top.continew.starter.extension.crud.model.req.BaseReq;
 import top.continew.starter.extension.crud.model.resp.BaseIdResp;
 import top.continew.starter.extension.crud.model.resp.BasePageResp;
+import top.continew.starter.extension.crud.model.resp.BatchResp;
+import top.continew.starter.extension.crud.model.resp.CursorPageResp;
 import top.continew.starter.extension.crud.service.BaseService;
 import top.continew.starter.extension.crud.util.ValidateGroup;
+import top.continew.starter.file.excel.enums.ExportFormat;
+import top.continew.starter.web.util.SpringWebUtils;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * 控制器基类
@@ -68,6 +77,21 @@ public abstract class BaseController<S extends BaseService<L, D, Q, C>, L, D, Q,
         return baseService.page(query, pageQuery);
     }
 
+    /**
+     * 游标分页查询列表
+     *
+     * @param query     查询条件
+     * @param pageQuery 游标分页查询条件
+     * @return 游标分页信息
+     */
+    @CrudApi(Api.CURSOR_PAGE)
+    @Operation(summary = "游标分页查询列表", description = "游标分页查询列表（适用于深分页）")
+    @ResponseBody
+    @GetMapping("/cursor")
+    public CursorPageResp<L> cursorPage(Q query, @Validated CursorPageQuery pageQuery) {
+        return baseService.cursorPage(query, pageQuery);
+    }
+
     /**
      * 查询列表
      *
@@ -127,6 +151,20 @@ public abstract class BaseController<S extends BaseService<L, D, Q, C>, L, D, Q,
         return new BaseIdResp<>(baseService.add(req));
     }
 
+    /**
+     * 批量新增
+     *
+     * @param reqList 创建参数列表
+     * @return 批量操作结果
+     */
+    @CrudApi(Api.BATCH_ADD)
+    @Operation(summary = "批量新增数据", description = "批量新增数据（逐条校验，分批提交）")
+    @ResponseBody
+    @PostMapping("/batch")
+    public BatchResp batchAdd(@RequestBody List<C> reqList) {
+        return baseService.batchAdd(reqList);
+    }
+
     /**
      * 修改
      *
@@ -142,6 +180,20 @@ public abstract class BaseController<S extends BaseService<L, D, Q, C>, L, D, Q,
         baseService.update(req, id);
     }
 
+    /**
+     * 批量修改
+     *
+     * @param reqMap 修改参数（Key：ID）
+     * @return 批量操作结果
+     */
+    @CrudApi(Api.BATCH_UPDATE)
+    @Operation(summary = "批量修改数据", description = "批量修改数据（逐条校验，分批提交）")
+    @ResponseBody
+    @PutMapping("/batch")
+    public BatchResp batchUpdate(@RequestBody Map<Long, C> reqMap) {
+        return baseService.batchUpdate(reqMap);
+    }
+
     /**
      * 删除
      *
@@ -158,6 +210,10 @@ public abstract class BaseController<S extends BaseService<L, D, Q, C>, L, D, Q,
 
     /**
      * 导出
+     * <p>
+     * 默认导出 Excel；可通过 format 参数（xlsx、csv、ndjson）或 Accept 请求头（text/csv、application/x-ndjson）协商导出格式，
+     * CSV、NDJSON 格式在请求头 Accept-Encoding 包含 gzip 时压缩输出
+     * </p>
      *
      * @param query     查询条件
      * @param sortQuery 排序查询条件
@@ -165,9 +221,18 @@ public abstract class BaseController<S extends BaseService<L, D, Q, C>, L, D, Q,
      */
     @CrudApi(Api.EXPORT)
     @ExcludeFromGracefulResponse
-    @Operation(summary = "导出数据", description = "导出数据")
+    @Operation(summary = "导出数据", description = "导出数据（支持 xlsx、csv、ndjson 格式）")
+    @Parameter(name = "format", description = "导出格式（xlsx、csv、ndjson）", example = "csv", in = ParameterIn.QUERY)
     @GetMapping("/export")
     public void export(Q query, SortQuery sortQuery, HttpServletResponse response) {
-        baseService.export(query, sortQuery, response);
+        HttpServletRequest request = SpringWebUtils.getRequest();
+        ExportFormat format = ExportFormat.resolve(request.getParameter("format"), request
+            .getHeader(HttpHeaders.ACCEPT));
+        if (ExportFormat.XLSX == format) {
+            baseService.export(query, sortQuery, response);
+            return;
+        }
+        boolean gzip = CharSequenceUtil.containsIgnoreCase(request.getHeader(HttpHeaders.ACCEPT_ENCODING), "gzip");
+        baseService.export(query, sortQuery, format, gzip, response);
     }
 }
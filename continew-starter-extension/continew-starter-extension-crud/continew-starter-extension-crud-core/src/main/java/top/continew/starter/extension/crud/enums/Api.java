@@ -29,6 +29,11 @@ public enum Api {
      */
     PAGE,
 
+    /**
+     * 游标分页
+     */
+    CURSOR_PAGE,
+
     /**
      * 列表
      */
@@ -49,11 +54,21 @@ public enum Api {
      */
     ADD,
 
+    /**
+     * 批量新增
+     */
+    BATCH_ADD,
+
     /**
      * 修改
      */
     UPDATE,
 
+    /**
+     * 批量修改
+     */
+    BATCH_UPDATE,
+
     /**
      * 删除
      */
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.extension.crud.model.query;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.hibernate.validator.constraints.Range;
+import org.springdoc.core.annotations.ParameterObject;
+
+import java.io.Serial;
+
+/**
+ * 游标分页查询条件
+ * <p>
+ * 基于（排序字段，ID）进行键集分页（Keyset/Seek），深分页性能与页码无关；排序字段建议为非空字段。
+ * </p>
+ *
+ * @author Charles7c
+ * @since 2.7.5
+ */
+@ParameterObject
+@Schema(description = "游标分页查询条件")
+public class CursorPageQuery extends SortQuery {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+    /**
+     * 默认每页条数：10
+     */
+    private static final int DEFAULT_SIZE = 10;
+
+    /**
+     * 游标（上一页响应中的 nextCursor，为空表示查询第一页）
+     */
+    @Schema(description = "游标", example = "WyIxIl0")
+    private String cursor;
+
+    /**
+     * 每页条数
+     */
+    @Schema(description = "每页条数", example = "10")
+    @Range(min = 1, max = 1000, message = "每页条数（取值范围 {min}-{max}）")
+    private Integer size = DEFAULT_SIZE;
+
+    /**
+     * 是否查询总记录数
+     */
+    @Schema(description = "是否查询总记录数", example = "false")
+    private Boolean searchCount = false;
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public Integer getSize() {
+        return size;
+    }
+
+    public void setSize(Integer size) {
+        this.size = size;
+    }
+
+    public Boolean getSearchCount() {
+        return searchCount;
+    }
+
+    public void setSearchCount(Boolean searchCount) {
+        this.searchCount = searchCount;
+    }
+}
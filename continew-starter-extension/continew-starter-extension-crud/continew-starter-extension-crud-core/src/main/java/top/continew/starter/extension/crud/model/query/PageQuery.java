@@ -20,6 +20,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Min;
 import org.hibernate.validator.constraints.Range;
 import org.springdoc.core.annotations.ParameterObject;
+import top.continew.starter.data.core.enums.CountStrategy;
 
 import java.io.Serial;
 
@@ -58,6 +59,17 @@ public class PageQuery extends SortQuery {
     @Range(min = 1, max = 1000, message = "每页条数（取值范围 {min}-{max}）")
     private Integer size = DEFAULT_SIZE;
 
+    /**
+     * 总数统计策略（为空时使用默认策略）
+     * <p>
+     * NONE：不统计总数，仅判断是否存在下一页，适用于大数据量表的“上一页/下一页”式分页
+     * </p>
+     *
+     * @since 2.7.5
+     */
+    @Schema(description = "总数统计策略", example = "EXACT")
+    private CountStrategy countStrategy;
+
     public Integer getPage() {
         return page;
     }
@@ -73,4 +85,12 @@ public class PageQuery extends SortQuery {
     public void setSize(Integer size) {
         this.size = size;
     }
+
+    public CountStrategy getCountStrategy() {
+        return countStrategy;
+    }
+
+    public void setCountStrategy(CountStrategy countStrategy) {
+        this.countStrategy = countStrategy;
+    }
 }
@@ -83,7 +83,7 @@ public class SortQuery implements Serializable {
      * @return 排序条件
      */
     private Sort.Order getOrder(String field, String direction) {
-        ValidationUtils.throwIf(SqlInjectionUtils.check(field), "排序字段包含非法字符");
+        ValidationUtils.throwIf(!SqlInjectionUtils.isIdentifier(field), "排序字段包含非法字符");
         return new Sort.Order(Sort.Direction.valueOf(direction.toUpperCase()), field);
     }
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.extension.crud.model.resp;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 批量操作结果
+ *
+ * @author Charles7c
+ * @since 2.7.5
+ */
+@Schema(description = "批量操作结果")
+public class BatchResp implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 成功 ID 列表
+     */
+    @Schema(description = "成功 ID 列表", example = "[1,2]")
+    private List<Long> ids = new ArrayList<>();
+
+    /**
+     * 失败列表
+     */
+    @Schema(description = "失败列表")
+    private List<Failure> failures = new ArrayList<>();
+
+    /**
+     * 成功条数
+     *
+     * @return 成功条数
+     */
+    @Schema(description = "成功条数", example = "2")
+    public int getSuccessCount() {
+        return ids.size();
+    }
+
+    /**
+     * 失败条数
+     *
+     * @return 失败条数
+     */
+    @Schema(description = "失败条数", example = "0")
+    public int getFailureCount() {
+        return failures.size();
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public List<Failure> getFailures() {
+        return failures;
+    }
+
+    public void setFailures(List<Failure> failures) {
+        this.failures = failures;
+    }
+
+    /**
+     * 失败信息
+     */
+    @Schema(description = "失败信息")
+    public static class Failure implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * 序号（请求数据中的位置，从 0 开始）
+         */
+        @Schema(description = "序号（请求数据中的位置，从 0 开始）", example = "0")
+        private int index;
+
+        /**
+         * ID（修改时返回）
+         */
+        @Schema(description = "ID（修改时返回）", example = "1")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Long id;
+
+        /**
+         * 失败原因
+         */
+        @Schema(description = "失败原因", example = "名称不能为空")
+        private String message;
+
+        public Failure() {
+        }
+
+        public Failure(int index, Long id, String message) {
+            this.index = index;
+            this.id = id;
+            this.message = message;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public void setIndex(int index) {
+            this.index = index;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.extension.crud.model.resp;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 游标分页信息
+ *
+ * @param <L> 列表数据类型
+ * @author Charles7c
+ * @since 2.7.5
+ */
+@Schema(description = "游标分页信息")
+public class CursorPageResp<L> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 列表数据
+     */
+    @Schema(description = "列表数据")
+    private List<L> list;
+
+    /**
+     * 下一页游标
+     */
+    @Schema(description = "下一页游标（没有下一页时为空）", example = "WyIxIl0")
+    private String nextCursor;
+
+    /**
+     * 是否有下一页
+     */
+    @Schema(description = "是否有下一页", example = "true")
+    private boolean hasNext;
+
+    /**
+     * 总记录数（未查询总记录数时为空）
+     */
+    @Schema(description = "总记录数", example = "10")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long total;
+
+    public CursorPageResp() {
+    }
+
+    public CursorPageResp(List<L> list, String nextCursor, boolean hasNext, Long total) {
+        this.list = list;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+        this.total = total;
+    }
+
+    public List<L> getList() {
+        return list;
+    }
+
+    public void setList(List<L> list) {
+        this.list = list;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public Long getTotal() {
+        return total;
+    }
+
+    public void setTotal(Long total) {
+        this.total = total;
+    }
+}
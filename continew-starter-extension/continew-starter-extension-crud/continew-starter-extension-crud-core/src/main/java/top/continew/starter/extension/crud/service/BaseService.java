@@ -18,12 +18,17 @@ package top.continew.starter.extension.crud.service;
 
 import cn.hutool.core.lang.tree.Tree;
 import jakarta.servlet.http.HttpServletResponse;
+import top.continew.starter.extension.crud.model.query.CursorPageQuery;
 import top.continew.starter.extension.crud.model.query.PageQuery;
 import top.continew.starter.extension.crud.model.query.SortQuery;
 import top.continew.starter.extension.crud.model.resp.BasePageResp;
+import top.continew.starter.extension.crud.model.resp.BatchResp;
+import top.continew.starter.extension.crud.model.resp.CursorPageResp;
 import top.continew.starter.extension.crud.model.resp.LabelValueResp;
+import top.continew.starter.file.excel.enums.ExportFormat;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * 业务接口基类
@@ -46,6 +51,16 @@ public interface BaseService<L, D, Q, C> {
      */
     BasePageResp<L> page(Q query, PageQuery pageQuery);
 
+    /**
+     * 游标分页查询列表
+     *
+     * @param query     查询条件
+     * @param pageQuery 游标分页查询条件
+     * @return 游标分页列表信息
+     * @since 2.7.5
+     */
+    CursorPageResp<L> cursorPage(Q query, CursorPageQuery pageQuery);
+
     /**
      * 查询列表
      *
@@ -103,6 +118,30 @@ public interface BaseService<L, D, Q, C> {
      */
     void update(C req, Long id);
 
+    /**
+     * 批量新增
+     * <p>
+     * 逐条校验，分批提交，单条数据失败不影响其他数据
+     * </p>
+     *
+     * @param reqList 创建参数列表
+     * @return 批量操作结果
+     * @since 2.7.5
+     */
+    BatchResp batchAdd(List<C> reqList);
+
+    /**
+     * 批量修改
+     * <p>
+     * 逐条校验，分批提交，单条数据失败不影响其他数据
+     * </p>
+     *
+     * @param reqMap 修改参数（Key：ID）
+     * @return 批量操作结果
+     * @since 2.7.5
+     */
+    BatchResp batchUpdate(Map<Long, C> reqMap);
+
     /**
      * 删除
      *
@@ -118,4 +157,16 @@ public interface BaseService<L, D, Q, C> {
      * @param response  响应对象
      */
     void export(Q query, SortQuery sortQuery, HttpServletResponse response);
+
+    /**
+     * 导出（指定格式）
+     *
+     * @param query     查询条件
+     * @param sortQuery 排序查询条件
+     * @param format    导出格式
+     * @param gzip      是否 gzip 压缩（仅对 CSV、NDJSON 生效）
+     * @param response  响应对象
+     * @since 2.7.5
+     */
+    void export(Q query, SortQuery sortQuery, ExportFormat format, boolean gzip, HttpServletResponse response);
 }
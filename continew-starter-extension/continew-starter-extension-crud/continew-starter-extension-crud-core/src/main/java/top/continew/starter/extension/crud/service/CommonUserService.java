@@ -16,12 +16,16 @@
 
 package top.continew.starter.extension.crud.service;
 
-import cn.crane4j.annotation.ContainerMethod;
-import cn.crane4j.annotation.MappingType;
-import top.continew.starter.extension.crud.constant.ContainerPool;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * 公共用户业务接口
+ * <p>
+ * 由 {@link top.continew.starter.extension.crud.container.UserNicknameContainer} 包装为
+ * {@link top.continew.starter.extension.crud.constant.ContainerPool#USER_NICKNAME} 数据源容器（带本地缓存及批量查询）
+ * </p>
  *
  * @author Charles7c
  * @since 1.0.0
@@ -34,6 +38,23 @@ public interface CommonUserService {
      * @param id ID
      * @return 昵称
      */
-    @ContainerMethod(namespace = ContainerPool.USER_NICKNAME, type = MappingType.ORDER_OF_KEYS)
     String getNicknameById(Long id);
+
+    /**
+     * 根据 ID 列表批量查询昵称
+     * <p>
+     * 默认逐个调用 {@link #getNicknameById(Long)}，建议重写为一次批量查询
+     * </p>
+     *
+     * @param ids ID 列表
+     * @return 昵称映射（key：ID；value：昵称）
+     * @since 2.7.5
+     */
+    default Map<Long, String> getNicknameByIds(Collection<Long> ids) {
+        Map<Long, String> nicknameMap = new HashMap<>(ids.size());
+        for (Long id : ids) {
+            nicknameMap.put(id, this.getNicknameById(id));
+        }
+        return nicknameMap;
+    }
 }
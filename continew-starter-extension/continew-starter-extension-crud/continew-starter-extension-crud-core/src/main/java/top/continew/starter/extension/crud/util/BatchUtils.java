@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.extension.crud.util;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.extra.spring.SpringUtil;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import top.continew.starter.core.exception.BaseException;
+import top.continew.starter.core.util.BeanCopyUtils;
+import top.continew.starter.extension.crud.model.resp.BatchResp;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 批量操作工具类
+ * <p>
+ * 先逐条校验（校验失败、与之前数据重复的数据不参与处理），再分批处理；某批处理失败时逐条重试，以定位失败数据且不影响其他数据。<br>
+ * 每次处理（含重试）均使用请求参数的新副本（浅复制），避免失败的处理对请求参数的修改影响重试；
+ * 前置、后置处理中在事务之外产生的副作用（如调用外部服务）在重试时会重复执行，应保证幂等。
+ * </p>
+ *
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public class BatchUtils {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchUtils.class);
+    private static final String DEFAULT_FAILURE_MESSAGE = "数据处理失败";
+    private static final String NULL_FAILURE_MESSAGE = "数据不能为空";
+    private static final String DUPLICATE_FAILURE_MESSAGE = "与第 %d 条数据重复";
+
+    private BatchUtils() {
+    }
+
+    /**
+     * 执行批量操作
+     *
+     * @param items     待处理数据列表
+     * @param group     校验分组
+     * @param uniqueKey 唯一键获取函数（唯一键相同的数据仅处理第一条，其余记为失败；为空或返回 null 时不检查）
+     * @param chunkSize 每批条数
+     * @param handler   每批处理（需在独立事务中执行，返回处理成功的 ID 列表）
+     * @param <C>       请求参数类型
+     * @return 批量操作结果
+     */
+    public static <C> BatchResp execute(List<Item<C>> items,
+                                        Class<?> group,
+                                        Function<C, ?> uniqueKey,
+                                        int chunkSize,
+                                        Function<List<Item<C>>, List<Long>> handler) {
+        BatchResp batchResp = new BatchResp();
+        List<Item<C>> validItems = checkDuplicate(validate(items, group, batchResp), uniqueKey, batchResp);
+        for (List<Item<C>> chunk : CollUtil.split(validItems, Math.max(1, chunkSize))) {
+            try {
+                batchResp.getIds().addAll(handler.apply(chunk.stream().map(BatchUtils::copy).toList()));
+            } catch (Exception e) {
+                if (chunk.size() == 1) {
+                    addFailure(batchResp, chunk.get(0), e);
+                    continue;
+                }
+                // 分批处理失败，逐条重试以定位失败数据
+                for (Item<C> item : chunk) {
+                    try {
+                        batchResp.getIds().addAll(handler.apply(List.of(copy(item))));
+                    } catch (Exception ex) {
+                        addFailure(batchResp, item, ex);
+                    }
+                }
+            }
+        }
+        batchResp.getFailures().sort(Comparator.comparingInt(BatchResp.Failure::getIndex));
+        return batchResp;
+    }
+
+    /**
+     * 校验数据
+     *
+     * @param items     待校验数据列表
+     * @param group     校验分组
+     * @param batchResp 批量操作结果
+     * @param <C>       请求参数类型
+     * @return 校验通过的数据列表
+     */
+    private static <C> List<Item<C>> validate(List<Item<C>> items, Class<?> group, BatchResp batchResp) {
+        Validator validator = SpringUtil.getBean(Validator.class);
+        List<Item<C>> validItems = new ArrayList<>(items.size());
+        for (Item<C> item : items) {
+            if (null == item.req()) {
+                batchResp.getFailures().add(new BatchResp.Failure(item.index(), item.id(), NULL_FAILURE_MESSAGE));
+                continue;
+            }
+            Set<ConstraintViolation<C>> violations = validator.validate(item.req(), group);
+            if (violations.isEmpty()) {
+                validItems.add(item);
+                continue;
+            }
+            String message = violations.stream().map(ConstraintViolation::getMessage).collect(Collectors.joining("；"));
+            batchResp.getFailures().add(new BatchResp.Failure(item.index(), item.id(), message));
+        }
+        return validItems;
+    }
+
+    /**
+     * 检查重复数据（各批次的前置处理只能检查已入库的数据，无法发现同一请求中相互重复的数据）
+     *
+     * @param items     待检查数据列表
+     * @param uniqueKey 唯一键获取函数
+     * @param batchResp 批量操作结果
+     * @param <C>       请求参数类型
+     * @return 不重复的数据列表
+     */
+    private static <C> List<Item<C>> checkDuplicate(List<Item<C>> items,
+                                                    Function<C, ?> uniqueKey,
+                                                    BatchResp batchResp) {
+        if (null == uniqueKey) {
+            return items;
+        }
+        Map<Object, Item<C>> firstItems = new HashMap<>(items.size());
+        List<Item<C>> uniqueItems = new ArrayList<>(items.size());
+        for (Item<C> item : items) {
+            Object key = uniqueKey.apply(item.req());
+            Item<C> firstItem = null != key ? firstItems.putIfAbsent(key, item) : null;
+            if (null == firstItem) {
+                uniqueItems.add(item);
+                continue;
+            }
+            batchResp.getFailures()
+                .add(new BatchResp.Failure(item.index(), item.id(), DUPLICATE_FAILURE_MESSAGE
+                    .formatted(firstItem.index() + 1)));
+        }
+        return uniqueItems;
+    }
+
+    /**
+     * 复制数据（请求参数浅复制，避免处理过程中对请求参数的修改影响重试）
+     *
+     * @param item 数据
+     * @param <C>  请求参数类型
+     * @return 数据副本
+     */
+    @SuppressWarnings("unchecked")
+    private static <C> Item<C> copy(Item<C> item) {
+        C req = (C)BeanCopyUtils.toBean(item.req(), item.req().getClass());
+        return new Item<>(item.index(), item.id(), req);
+    }
+
+    /**
+     * 添加失败信息（仅业务异常返回异常信息，避免泄露系统内部信息）
+     *
+     * @param batchResp 批量操作结果
+     * @param item      失败数据
+     * @param e         异常
+     */
+    private static void addFailure(BatchResp batchResp, Item<?> item, Exception e) {
+        String message;
+        if (e instanceof BaseException) {
+            message = e.getMessage();
+        } else {
+            log.error("Batch item [{}] processing failed.", item.index(), e);
+            message = DEFAULT_FAILURE_MESSAGE;
+        }
+        batchResp.getFailures().add(new BatchResp.Failure(item.index(), item.id(), message));
+    }
+
+    /**
+     * 批量操作数据
+     *
+     * @param index 序号（请求数据中的位置）
+     * @param id    ID（修改时传入）
+     * @param req   请求参数
+     * @param <C>   请求参数类型
+     */
+    public record Item<C>(int index, Long id, C req) {
+    }
+}
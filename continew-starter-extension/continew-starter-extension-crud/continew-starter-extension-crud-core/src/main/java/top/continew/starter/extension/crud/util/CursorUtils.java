@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.extension.crud.util;
+
+import cn.hutool.core.codec.Base64;
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.text.CharSequenceUtil;
+import cn.hutool.core.util.ReflectUtil;
+import cn.hutool.json.JSONArray;
+import cn.hutool.json.JSONConfig;
+import cn.hutool.json.JSONUtil;
+import top.continew.starter.core.exception.BadRequestException;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 游标分页工具类
+ * <p>
+ * 游标为最后一条记录各排序字段值（字符串形式，空值保留为 null）组成的 JSON 数组，并进行 URL 安全的 Base64 编码，对调用方不透明。<br>
+ * 排序字段允许为空：定位条件需按数据库空值排序规则生成 IS NULL / IS NOT NULL 分支（参见 {@link #isNullsFirst}）。
+ * </p>
+ *
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public class CursorUtils {
+
+    private CursorUtils() {
+    }
+
+    /**
+     * 编码游标
+     *
+     * @param orders 游标排序字段列表
+     * @param entity 当前页最后一条记录
+     * @return 游标
+     */
+    public static String encode(List<CursorOrder> orders, Object entity) {
+        JSONArray values = new JSONArray(orders.size(), newJsonConfig());
+        for (CursorOrder order : orders) {
+            values.add(toStr(ReflectUtil.getFieldValue(entity, order.field())));
+        }
+        return Base64.encodeUrlSafe(values.toString());
+    }
+
+    /**
+     * 解码游标
+     *
+     * @param cursor 游标
+     * @param orders 游标排序字段列表
+     * @return 各排序字段值（游标为空时返回 null）
+     */
+    public static List<Object> decode(String cursor, List<CursorOrder> orders) {
+        if (CharSequenceUtil.isBlank(cursor)) {
+            return null;
+        }
+        List<String> values = new ArrayList<>(orders.size());
+        try {
+            JSONArray array = new JSONArray(Base64.decodeStr(cursor), newJsonConfig());
+            for (Object value : array) {
+                values.add(JSONUtil.isNull(value) ? null : value.toString());
+            }
+        } catch (Exception e) {
+            throw new BadRequestException("分页游标非法");
+        }
+        if (values.size() != orders.size()) {
+            throw new BadRequestException("分页游标与排序条件不匹配");
+        }
+        List<Object> result = new ArrayList<>(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            result.add(toValue(values.get(i), orders.get(i).field().getType()));
+        }
+        return result;
+    }
+
+    /**
+     * 获取记录各游标排序字段值
+     *
+     * @param orders 游标排序字段列表
+     * @param entity 记录
+     * @return 各排序字段值
+     */
+    public static List<Object> getValues(List<CursorOrder> orders, Object entity) {
+        List<Object> values = new ArrayList<>(orders.size());
+        for (CursorOrder order : orders) {
+            values.add(ReflectUtil.getFieldValue(entity, order.field()));
+        }
+        return values;
+    }
+
+    /**
+     * 空值是否排在前面
+     * <p>
+     * MySQL 中空值视为最小值（升序在前、降序在后），PostgreSQL 中空值视为最大值（升序在后、降序在前）
+     * </p>
+     *
+     * @param order         游标排序字段
+     * @param nullsSmallest 数据库是否将空值视为最小值
+     * @return 空值是否排在前面
+     */
+    public static boolean isNullsFirst(CursorOrder order, boolean nullsSmallest) {
+        return order.asc() == nullsSmallest;
+    }
+
+    /**
+     * 创建 JSON 配置（保留空值，保证游标长度与排序字段数量一致）
+     */
+    private static JSONConfig newJsonConfig() {
+        return JSONConfig.create().setIgnoreNullValue(false);
+    }
+
+    /**
+     * 字段值转换为字符串（时间类型保留完整精度）
+     */
+    private static String toStr(Object value) {
+        if (null == value) {
+            return null;
+        }
+        if (value instanceof Date date) {
+            return String.valueOf(date.getTime());
+        }
+        return value.toString();
+    }
+
+    /**
+     * 字符串转换为字段值
+     */
+    private static Object toValue(String value, Class<?> type) {
+        if (null == value) {
+            return null;
+        }
+        try {
+            if (LocalDateTime.class == type) {
+                return LocalDateTime.parse(value);
+            }
+            if (LocalDate.class == type) {
+                return LocalDate.parse(value);
+            }
+            if (LocalTime.class == type) {
+                return LocalTime.parse(value);
+            }
+            if (Date.class.isAssignableFrom(type)) {
+                return new Date(Long.parseLong(value));
+            }
+            return Convert.convert(type, value);
+        } catch (Exception e) {
+            throw new BadRequestException("分页游标非法");
+        }
+    }
+
+    /**
+     * 游标排序字段
+     *
+     * @param column 列名
+     * @param field  实体字段
+     * @param asc    是否升序
+     */
+    public record CursorOrder(String column, Field field, boolean asc) {
+    }
+}
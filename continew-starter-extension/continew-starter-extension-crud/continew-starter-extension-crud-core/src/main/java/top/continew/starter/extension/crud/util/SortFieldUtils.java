@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.extension.crud.util;
+
+import cn.hutool.core.text.CharSequenceUtil;
+import top.continew.starter.core.constant.StringConstants;
+import top.continew.starter.core.util.ReflectUtils;
+import top.continew.starter.data.core.util.SqlInjectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 排序字段工具类
+ * <p>
+ * 按实体类型预先构建排序字段白名单（属性名 -> 列名），校验排序字段时仅需一次哈希查找
+ * </p>
+ *
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public class SortFieldUtils {
+
+    /**
+     * 排序字段白名单缓存（Key：实体类型）
+     */
+    private static final Map<Class<?>, Map<String, SortField>> SORT_FIELD_CACHE = new ConcurrentHashMap<>();
+
+    private SortFieldUtils() {
+    }
+
+    /**
+     * 获取排序字段
+     * <p>
+     * 支持携带表别名，例如：t1.createTime，返回的列名同样携带表别名（t1.create_time）
+     * </p>
+     *
+     * @param entityClass 实体类型
+     * @param property    排序属性
+     * @return 排序字段（属性不存在或表别名非法时返回 null）
+     */
+    public static SortField getSortField(Class<?> entityClass, String property) {
+        if (CharSequenceUtil.isBlank(property)) {
+            return null;
+        }
+        Map<String, SortField> sortFieldMap = SORT_FIELD_CACHE
+            .computeIfAbsent(entityClass, SortFieldUtils::buildSortFieldMap);
+        int dotIndex = property.lastIndexOf(StringConstants.DOT);
+        if (dotIndex < 0) {
+            return sortFieldMap.get(property);
+        }
+        // 携带表别名则获取 . 后面的字段名，并校验表别名
+        SortField sortField = sortFieldMap.get(property.substring(dotIndex + 1));
+        if (null == sortField || !SqlInjectionUtils.isIdentifier(property)) {
+            return null;
+        }
+        String alias = property.substring(0, dotIndex + 1);
+        return new SortField(property, alias + sortField.column(), sortField.field());
+    }
+
+    /**
+     * 构建排序字段白名单
+     *
+     * @param entityClass 实体类型
+     * @return 排序字段白名单（Key：属性名）
+     */
+    private static Map<String, SortField> buildSortFieldMap(Class<?> entityClass) {
+        Map<String, SortField> sortFieldMap = new HashMap<>();
+        for (Field field : ReflectUtils.getNonStaticFields(entityClass)) {
+            // 子类字段优先
+            sortFieldMap.putIfAbsent(field.getName(), new SortField(field.getName(), CharSequenceUtil
+                .toUnderlineCase(field.getName()), field));
+        }
+        return Map.copyOf(sortFieldMap);
+    }
+
+    /**
+     * 排序字段
+     *
+     * @param property 属性名
+     * @param column   列名
+     * @param field    字段
+     */
+    public record SortField(String property, String column, Field field) {
+    }
+}
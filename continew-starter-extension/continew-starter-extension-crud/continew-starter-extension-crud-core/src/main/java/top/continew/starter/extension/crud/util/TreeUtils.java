@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.extension.crud.util;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.lang.tree.Tree;
+import cn.hutool.core.lang.tree.TreeNodeConfig;
+import cn.hutool.core.text.CharSequenceUtil;
+import cn.hutool.core.util.ReflectUtil;
+import top.continew.starter.core.exception.BaseException;
+import top.continew.starter.core.util.ReflectUtils;
+import top.continew.starter.core.validation.CheckUtils;
+import top.continew.starter.extension.crud.annotation.TreeField;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 树构建工具类
+ * <p>
+ * 按列表类型预先解析并缓存 ID、父 ID、名称、排序及扩展字段的访问器，构建时仅通过 ID → 子节点映射进行一次线性遍历。
+ * 构建结果与 {@link cn.hutool.core.lang.tree.TreeUtil#build} 保持一致（同级节点按排序字段升序，支持递归深度限制）。
+ * </p>
+ *
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public class TreeUtils {
+
+    private static final Map<Class<?>, TreeNodeAccessor> ACCESSOR_CACHE = new ConcurrentHashMap<>();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private TreeUtils() {
+    }
+
+    /**
+     * 构建树
+     *
+     * @param list           节点列表
+     * @param nodeClass      节点类型（需添加 {@link TreeField} 注解）
+     * @param rootId         根节点 ID
+     * @param treeNodeConfig 树结构配置
+     * @param isSimple       是否为简单树结构（不包含扩展字段）
+     * @param <N>            节点类型
+     * @return 树列表
+     */
+    public static <N> List<Tree<Long>> build(List<N> list,
+                                             Class<N> nodeClass,
+                                             Long rootId,
+                                             TreeNodeConfig treeNodeConfig,
+                                             boolean isSimple) {
+        if (CollUtil.isEmpty(list)) {
+            return new ArrayList<>(0);
+        }
+        TreeNodeAccessor accessor = ACCESSOR_CACHE.computeIfAbsent(nodeClass, TreeNodeAccessor::new);
+        // 转换节点
+        List<Tree<Long>> nodeList = new ArrayList<>(list.size());
+        for (N node : list) {
+            nodeList.add(accessor.toTree(node, treeNodeConfig, isSimple));
+        }
+        // 按排序字段升序（稳定排序），保证子节点顺序与 Hutool 一致
+        nodeList.sort(TreeUtils::compareWeight);
+        // 构建 ID -> 子节点映射
+        Map<Long, List<Tree<Long>>> childrenMap = new HashMap<>(list.size());
+        List<Tree<Long>> rootList = new ArrayList<>();
+        for (Tree<Long> tree : nodeList) {
+            Long parentId = tree.getParentId();
+            if (Objects.equals(rootId, parentId)) {
+                rootList.add(tree);
+            } else {
+                childrenMap.computeIfAbsent(parentId, k -> new ArrayList<>()).add(tree);
+            }
+        }
+        // 挂载子节点
+        for (Tree<Long> tree : nodeList) {
+            List<Tree<Long>> children = childrenMap.get(tree.getId());
+            if (null != children) {
+                children.forEach(child -> child.setParent(tree));
+                tree.setChildren(children);
+            }
+        }
+        // 递归深度限制（与 Hutool 一致：从虚拟根节点开始计算深度，虚拟根节点深度为 0，根节点深度为 1）
+        Integer deep = treeNodeConfig.getDeep();
+        if (null != deep && deep >= 0) {
+            if (deep == 0) {
+                return new ArrayList<>(0);
+            }
+            rootList.forEach(root -> cutTree(root, 1, deep));
+        }
+        return rootList;
+    }
+
+    /**
+     * 按最大深度裁剪树
+     *
+     * @param tree        节点
+     * @param currentDeep 当前深度
+     * @param maxDeep     最大深度
+     */
+    private static void cutTree(Tree<Long> tree, int currentDeep, int maxDeep) {
+        if (currentDeep == maxDeep) {
+            tree.setChildren(null);
+            return;
+        }
+        List<Tree<Long>> children = tree.getChildren();
+        if (CollUtil.isNotEmpty(children)) {
+            children.forEach(child -> cutTree(child, currentDeep + 1, maxDeep));
+        }
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static int compareWeight(Tree<Long> t1, Tree<Long> t2) {
+        Comparable w1 = t1.getWeight();
+        Comparable w2 = t2.getWeight();
+        if (w1 == w2) {
+            return 0;
+        }
+        if (null == w1) {
+            return -1;
+        }
+        if (null == w2) {
+            return 1;
+        }
+        return w1.compareTo(w2);
+    }
+
+    /**
+     * 树节点访问器（按节点类型缓存）
+     */
+    private static class TreeNodeAccessor {
+
+        private final MethodHandle idGetter;
+        private final MethodHandle parentIdGetter;
+        private final MethodHandle nameGetter;
+        private final MethodHandle weightGetter;
+        private final String[] extraNames;
+        private final MethodHandle[] extraGetters;
+
+        TreeNodeAccessor(Class<?> nodeClass) {
+            TreeField treeField = nodeClass.getDeclaredAnnotation(TreeField.class);
+            CheckUtils.throwIfNull(treeField, "请添加并配置 @TreeField 树结构信息");
+            this.idGetter = getter(nodeClass, treeField.value());
+            this.parentIdGetter = getter(nodeClass, treeField.parentIdKey());
+            this.nameGetter = getter(nodeClass, treeField.nameKey());
+            this.weightGetter = getter(nodeClass, treeField.weightKey());
+            List<Field> fieldList = ReflectUtils.getNonStaticFields(nodeClass);
+            fieldList.removeIf(f -> CharSequenceUtil.equalsAnyIgnoreCase(f.getName(), treeField.value(), treeField
+                .parentIdKey(), treeField.nameKey(), treeField.weightKey(), treeField.childrenKey()));
+            this.extraNames = new String[fieldList.size()];
+            this.extraGetters = new MethodHandle[fieldList.size()];
+            for (int i = 0; i < fieldList.size(); i++) {
+                extraNames[i] = fieldList.get(i).getName();
+                extraGetters[i] = getter(nodeClass, extraNames[i]);
+            }
+        }
+
+        @SuppressWarnings({"rawtypes"})
+        Tree<Long> toTree(Object node, TreeNodeConfig treeNodeConfig, boolean isSimple) {
+            Tree<Long> tree = new Tree<>(treeNodeConfig);
+            tree.setId((Long)invoke(idGetter, node));
+            tree.setParentId((Long)invoke(parentIdGetter, node));
+            tree.setName((CharSequence)invoke(nameGetter, node));
+            tree.setWeight((Comparable)invoke(weightGetter, node));
+            // 如果构建简单树结构，则不包含扩展字段
+            if (!isSimple) {
+                for (int i = 0; i < extraNames.length; i++) {
+                    tree.putExtra(extraNames[i], invoke(extraGetters[i], node));
+                }
+            }
+            return tree;
+        }
+
+        private static MethodHandle getter(Class<?> nodeClass, String fieldName) {
+            String getterName = CharSequenceUtil.genGetter(fieldName);
+            Method method = ReflectUtil.getMethodByName(nodeClass, getterName);
+            CheckUtils.throwIfNull(method, "[{}] 中不存在方法 [{}]", nodeClass.getName(), getterName);
+            try {
+                return MethodHandles.lookup().unreflect(ReflectUtil.setAccessible(method)).asType(GETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                throw new BaseException(e.getMessage(), e);
+            }
+        }
+
+        private static Object invoke(MethodHandle getter, Object node) {
+            try {
+                return getter.invokeExact(node);
+            } catch (Throwable e) {
+                throw new BaseException(e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -16,10 +16,10 @@
 
 package top.continew.starter.extension.crud.model.resp;
 
-import cn.hutool.core.bean.BeanUtil;
 import cn.hutool.core.collection.CollUtil;
 import com.mybatisflex.core.paginate.Page;
 import io.swagger.v3.oas.annotations.media.Schema;
+import top.continew.starter.core.util.BeanCopyUtils;
 
 import java.io.Serial;
 import java.util.ArrayList;
@@ -59,7 +59,7 @@ public class PageResp<L> extends BasePageResp<L> {
         if (null == page) {
             return empty();
         }
-        return new PageResp<>(BeanUtil.copyToList(page.getRecords(), targetClass), page.getTotalRow());
+        return new PageResp<>(BeanCopyUtils.copyToList(page.getRecords(), targetClass), page.getTotalRow());
     }
 
     /**
@@ -17,23 +17,28 @@
 package top.continew.starter.extension.crud.service;
 
 import cn.crane4j.core.support.OperateTemplate;
-import cn.hutool.core.bean.BeanUtil;
-import cn.hutool.core.bean.copier.CopyOptions;
 import cn.hutool.core.collection.CollUtil;
 import cn.hutool.core.lang.tree.Tree;
 import cn.hutool.core.lang.tree.TreeNodeConfig;
-import cn.hutool.core.lang.tree.TreeUtil;
-import cn.hutool.core.text.CharSequenceUtil;
-import cn.hutool.core.util.ReflectUtil;
+import cn.hutool.core.util.ClassUtil;
 import cn.hutool.extra.spring.SpringUtil;
-import com.mybatisflex.core.paginate.Page;
+import com.mybatisflex.core.query.QueryColumn;
+import com.mybatisflex.core.query.QueryCondition;
+import com.mybatisflex.core.query.QueryMethods;
 import com.mybatisflex.core.query.QueryWrapper;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
-import top.continew.starter.core.constant.StringConstants;
+import org.springframework.transaction.support.TransactionTemplate;
+import top.continew.starter.core.util.BeanCopyUtils;
 import top.continew.starter.core.util.ReflectUtils;
+import top.continew.starter.core.validation.CheckUtils;
 import top.continew.starter.core.validation.ValidationUtils;
+import top.continew.starter.data.core.enums.CountStrategy;
+import top.continew.starter.data.core.enums.DatabaseType;
+import top.continew.starter.data.core.util.MetaUtils;
 import top.continew.starter.data.mf.base.BaseMapper;
 import top.continew.starter.data.mf.service.impl.ServiceImpl;
 import top.continew.starter.data.mf.util.QueryWrapperHelper;
@@ -41,15 +46,30 @@ import top.continew.starter.extension.crud.annotation.TreeField;
 import top.continew.starter.extension.crud.autoconfigure.CrudProperties;
 import top.continew.starter.extension.crud.autoconfigure.CrudTreeProperties;
 import top.continew.starter.extension.crud.model.entity.BaseIdDO;
+import top.continew.starter.extension.crud.model.query.CursorPageQuery;
 import top.continew.starter.extension.crud.model.query.PageQuery;
 import top.continew.starter.extension.crud.model.query.SortQuery;
+import top.continew.starter.extension.crud.model.resp.BatchResp;
+import top.continew.starter.extension.crud.model.resp.CursorPageResp;
 import top.continew.starter.extension.crud.model.resp.PageResp;
+import top.continew.starter.extension.crud.util.BatchUtils;
+import top.continew.starter.extension.crud.util.CursorUtils;
+import top.continew.starter.extension.crud.util.SortFieldUtils;
+import top.continew.starter.extension.crud.util.TreeUtils;
+import top.continew.starter.extension.crud.util.ValidateGroup;
+import top.continew.starter.file.excel.core.DataStreamWriter;
+import top.continew.starter.file.excel.enums.ExportFormat;
 import top.continew.starter.file.excel.util.ExcelUtils;
 
+import javax.sql.DataSource;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 业务实现基类
@@ -65,25 +85,55 @@ import java.util.Optional;
  */
 public abstract class BaseServiceImpl<M extends BaseMapper<T>, T extends BaseIdDO, L, D, Q, C> extends ServiceImpl<M, T> implements BaseService<L, D, Q, C> {
 
+    private static final String ID_FIELD_NAME = "id";
+    private static final ThreadLocal<Boolean> BATCH_FILLED = new ThreadLocal<>();
     protected final Class<L> listClass = this.currentListClass();
     protected final Class<D> detailClass = this.currentDetailClass();
     protected final Class<Q> queryClass = this.currentQueryClass();
     private final List<Field> queryFields = ReflectUtils.getNonStaticFields(this.queryClass);
+    private OperateTemplate operateTemplate;
+    private TransactionTemplate batchTransactionTemplate;
+    private Boolean nullsSmallest;
 
     @Override
     public PageResp<L> page(Q query, PageQuery pageQuery) {
         QueryWrapper queryWrapper = this.buildQueryWrapper(query);
         this.sort(queryWrapper, pageQuery);
-        Page<T> page = mapper.paginate(pageQuery.getPage(), pageQuery.getSize(), queryWrapper);
-        PageResp<L> pageResp = PageResp.build(page, listClass);
-        pageResp.getList().forEach(this::fill);
+        PageResp<L> pageResp = CountStrategy.NONE == pageQuery.getCountStrategy()
+            ? this.pageWithoutCount(queryWrapper, pageQuery)
+            : PageResp.build(mapper.paginate(pageQuery.getPage(), pageQuery.getSize(), queryWrapper), listClass);
+        this.fill(pageResp.getList());
         return pageResp;
     }
 
+    @Override
+    public CursorPageResp<L> cursorPage(Q query, CursorPageQuery pageQuery) {
+        QueryWrapper queryWrapper = this.buildQueryWrapper(query);
+        List<CursorUtils.CursorOrder> orders = this.getCursorOrders(pageQuery);
+        List<Object> cursorValues = CursorUtils.decode(pageQuery.getCursor(), orders);
+        this.seekCursor(queryWrapper, orders, cursorValues);
+        orders.forEach(order -> queryWrapper.orderBy(order.column(), order.asc()));
+        // 多查询一条用于判断是否有下一页，不查询总数
+        int size = pageQuery.getSize();
+        queryWrapper.limit(size + 1);
+        List<T> entityList = mapper.selectListByQuery(queryWrapper);
+        boolean hasNext = entityList.size() > size;
+        if (hasNext) {
+            entityList = entityList.subList(0, size);
+        }
+        String nextCursor = hasNext ? CursorUtils.encode(orders, CollUtil.getLast(entityList)) : null;
+        Long total = Boolean.TRUE.equals(pageQuery.getSearchCount())
+            ? mapper.selectCountByQuery(this.buildQueryWrapper(query))
+            : null;
+        List<L> list = BeanCopyUtils.copyToList(entityList, listClass);
+        this.fill(list);
+        return new CursorPageResp<>(list, nextCursor, hasNext, total);
+    }
+
     @Override
     public List<L> list(Q query, SortQuery sortQuery) {
         List<L> list = this.list(query, sortQuery, listClass);
-        list.forEach(this::fill);
+        this.fill(list);
         return list;
     }
 
@@ -107,26 +157,13 @@ public abstract class BaseServiceImpl<M extends BaseMapper<T>, T extends BaseIdD
             rootId = treeField.rootId();
         }
         // 构建树
-        return TreeUtil.build(list, rootId, treeNodeConfig, (node, tree) -> {
-            tree.setId(ReflectUtil.invoke(node, CharSequenceUtil.genGetter(treeField.value())));
-            tree.setParentId(ReflectUtil.invoke(node, CharSequenceUtil.genGetter(treeField.parentIdKey())));
-            tree.setName(ReflectUtil.invoke(node, CharSequenceUtil.genGetter(treeField.nameKey())));
-            tree.setWeight(ReflectUtil.invoke(node, CharSequenceUtil.genGetter(treeField.weightKey())));
-            // 如果构建简单树结构，则不包含扩展字段
-            if (!isSimple) {
-                List<Field> fieldList = ReflectUtils.getNonStaticFields(listClass);
-                fieldList.removeIf(f -> CharSequenceUtil.equalsAnyIgnoreCase(f.getName(), treeField.value(), treeField
-                    .parentIdKey(), treeField.nameKey(), treeField.weightKey(), treeField.childrenKey()));
-                fieldList.forEach(f -> tree.putExtra(f.getName(), ReflectUtil.invoke(node, CharSequenceUtil.genGetter(f
-                    .getName()))));
-            }
-        });
+        return TreeUtils.build(list, listClass, rootId, treeNodeConfig, isSimple);
     }
 
     @Override
     public D get(Long id) {
         T entity = super.getById(id);
-        D detail = BeanUtil.toBean(entity, detailClass);
+        D detail = BeanCopyUtils.toBean(entity, detailClass);
         this.fill(detail);
         return detail;
     }
@@ -135,7 +172,7 @@ public abstract class BaseServiceImpl<M extends BaseMapper<T>, T extends BaseIdD
     @Transactional(rollbackFor = Exception.class)
     public Long add(C req) {
         this.beforeAdd(req);
-        T entity = BeanUtil.copyProperties(req, this.entityClass);
+        T entity = BeanCopyUtils.toBean(req, this.entityClass);
         mapper.insert(entity);
         this.afterAdd(req, entity);
         return entity.getId();
@@ -146,11 +183,39 @@ public abstract class BaseServiceImpl<M extends BaseMapper<T>, T extends BaseIdD
     public void update(C req, Long id) {
         this.beforeUpdate(req, id);
         T entity = this.getById(id);
-        BeanUtil.copyProperties(req, entity, CopyOptions.create().ignoreNullValue());
+        BeanCopyUtils.copyProperties(req, entity, true);
         mapper.update(entity);
         this.afterUpdate(req, entity);
     }
 
+    @Override
+    public BatchResp batchAdd(List<C> reqList) {
+        ValidationUtils.throwIfEmpty(reqList, "新增数据不能为空");
+        this.checkBatchSize(reqList.size());
+        List<BatchUtils.Item<C>> items = new ArrayList<>(reqList.size());
+        for (int i = 0; i < reqList.size(); i++) {
+            items.add(new BatchUtils.Item<>(i, null, reqList.get(i)));
+        }
+        TransactionTemplate transactionTemplate = this.getBatchTransactionTemplate();
+        int chunkSize = this.getBatchChunkSize();
+        return BatchUtils.execute(items, ValidateGroup.Crud.Add.class, this::getBatchUniqueKey, chunkSize,
+            chunk -> transactionTemplate.execute(status -> this.doBatchAdd(chunk)));
+    }
+
+    @Override
+    public BatchResp batchUpdate(Map<Long, C> reqMap) {
+        ValidationUtils.throwIfEmpty(reqMap, "修改数据不能为空");
+        this.checkBatchSize(reqMap.size());
+        List<BatchUtils.Item<C>> items = new ArrayList<>(reqMap.size());
+        for (Map.Entry<Long, C> entry : reqMap.entrySet()) {
+            items.add(new BatchUtils.Item<>(items.size(), entry.getKey(), entry.getValue()));
+        }
+        TransactionTemplate transactionTemplate = this.getBatchTransactionTemplate();
+        int chunkSize = this.getBatchChunkSize();
+        return BatchUtils.execute(items, ValidateGroup.Crud.Update.class, this::getBatchUniqueKey, chunkSize,
+            chunk -> transactionTemplate.execute(status -> this.doBatchUpdate(chunk)));
+    }
+
     @Override
     @Transactional(rollbackFor = Exception.class)
     public void delete(List<Long> ids) {
@@ -161,9 +226,37 @@ public abstract class BaseServiceImpl<M extends BaseMapper<T>, T extends BaseIdD
 
     @Override
     public void export(Q query, SortQuery sortQuery, HttpServletResponse response) {
-        List<D> list = this.list(query, sortQuery, detailClass);
-        list.forEach(this::fill);
-        ExcelUtils.export(list, "导出数据", detailClass, response);
+        this.export(query, sortQuery, ExportFormat.XLSX, false, response);
+    }
+
+    @Override
+    public void export(Q query,
+                       SortQuery sortQuery,
+                       ExportFormat format,
+                       boolean gzip,
+                       HttpServletResponse response) {
+        int batchSize = SpringUtil.getBean(CrudProperties.class).getExport().getBatchSize();
+        List<CursorUtils.CursorOrder> orders = this.getCursorOrders(sortQuery);
+        try (DataStreamWriter<D> writer = ExcelUtils.streamExport("导出数据", detailClass, format, gzip, response)) {
+            // 子类重写了 list(Q, SortQuery, Class) 时，按重写后的查询导出（一次性加载），保证与列表查询结果一致
+            if (this.isListOverridden()) {
+                List<D> list = this.list(query, sortQuery, detailClass);
+                this.fill(list);
+                writer.write(list);
+                return;
+            }
+            // 按游标（排序条件 + ID）分批读取、转换、填充并写出，避免全量数据驻留内存或被驱动整体缓冲
+            List<Object> cursorValues = null;
+            int size;
+            do {
+                List<T> entityList = this.listExportBatch(query, orders, cursorValues, batchSize);
+                size = entityList.size();
+                if (size > 0) {
+                    cursorValues = CursorUtils.getValues(orders, CollUtil.getLast(entityList));
+                }
+                this.exportBatch(entityList, writer);
+            } while (size >= batchSize);
+        }
     }
 
     /**
@@ -182,7 +275,95 @@ public abstract class BaseServiceImpl<M extends BaseMapper<T>, T extends BaseIdD
         if (this.entityClass == targetClass) {
             return (List<E>)entityList;
         }
-        return BeanUtil.copyToList(entityList, targetClass);
+        return BeanCopyUtils.copyToList(entityList, targetClass);
+    }
+
+    /**
+     * 查询一批导出数据（按游标分页）
+     * <p>
+     * 子类如需自定义导出数据（关联查询、自定义 SQL、额外过滤条件等），可重写本方法；需按游标排序字段排序，并从游标之后开始查询
+     * </p>
+     *
+     * @param query        查询条件
+     * @param orders       游标排序字段列表（排序条件 + ID）
+     * @param cursorValues 上一批最后一条数据的各排序字段值（为空表示第一批）
+     * @param size         查询条数
+     * @return 实体列表
+     * @since 2.7.5
+     */
+    protected List<T> listExportBatch(Q query,
+                                      List<CursorUtils.CursorOrder> orders,
+                                      List<Object> cursorValues,
+                                      int size) {
+        QueryWrapper queryWrapper = this.buildQueryWrapper(query);
+        this.seekCursor(queryWrapper, orders, cursorValues);
+        orders.forEach(order -> queryWrapper.orderBy(order.column(), order.asc()));
+        queryWrapper.limit(size);
+        return mapper.selectListByQuery(queryWrapper);
+    }
+
+    /**
+     * 导出一批数据（转换为详情类型、填充后写出，并清空该批实体）
+     *
+     * @param entityList 实体列表
+     * @param writer     流式写入器
+     */
+    protected void exportBatch(List<T> entityList, DataStreamWriter<D> writer) {
+        if (entityList.isEmpty()) {
+            return;
+        }
+        List<D> list = this.entityClass == detailClass
+            ? (List<D>)new ArrayList<>(entityList)
+            : BeanCopyUtils.copyToList(entityList, detailClass);
+        this.fill(list);
+        writer.write(list);
+        entityList.clear();
+    }
+
+    /**
+     * 获取游标排序字段（排序条件 + ID，保证排序键唯一）
+     *
+     * @param sortQuery 排序查询条件
+     * @return 游标排序字段列表
+     */
+    protected List<CursorUtils.CursorOrder> getCursorOrders(SortQuery sortQuery) {
+        List<CursorUtils.CursorOrder> orders = new ArrayList<>();
+        boolean containsId = false;
+        if (sortQuery != null && sortQuery.getSort().isSorted()) {
+            for (Sort.Order order : sortQuery.getSort()) {
+                SortFieldUtils.SortField sortField = this.getSortField(order.getProperty());
+                orders.add(new CursorUtils.CursorOrder(sortField.column(), sortField.field(), order.isAscending()));
+                containsId = containsId || ID_FIELD_NAME.equals(sortField.field().getName());
+            }
+        }
+        if (!containsId) {
+            SortFieldUtils.SortField idField = this.getSortField(ID_FIELD_NAME);
+            orders.add(new CursorUtils.CursorOrder(idField.column(), idField.field(), true));
+        }
+        return orders;
+    }
+
+    /**
+     * 分页查询（不统计总数，多查询一条数据判断是否存在下一页）
+     * <p>
+     * 总数为已知记录数的下限（存在下一页时加 1），前端分页组件据此即可展示下一页
+     * </p>
+     *
+     * @param queryWrapper 查询条件
+     * @param pageQuery    分页查询条件
+     * @return 分页列表信息
+     */
+    protected PageResp<L> pageWithoutCount(QueryWrapper queryWrapper, PageQuery pageQuery) {
+        int size = pageQuery.getSize();
+        long offset = (long)(pageQuery.getPage() - 1) * size;
+        queryWrapper.limit(offset, size + 1);
+        List<T> entityList = mapper.selectListByQuery(queryWrapper);
+        boolean hasNext = entityList.size() > size;
+        if (hasNext) {
+            entityList = entityList.subList(0, size);
+        }
+        long total = offset + entityList.size() + (hasNext ? 1 : 0);
+        return new PageResp<>(BeanCopyUtils.copyToList(entityList, listClass), total);
     }
 
     /**
@@ -196,35 +377,251 @@ public abstract class BaseServiceImpl<M extends BaseMapper<T>, T extends BaseIdD
             return;
         }
         Sort sort = sortQuery.getSort();
-        List<Field> entityFields = ReflectUtils.getNonStaticFields(this.entityClass);
         for (Sort.Order order : sort) {
-            String property = order.getProperty();
-            String checkProperty;
-            // 携带表别名则获取 . 后面的字段名
-            if (property.contains(StringConstants.DOT)) {
-                checkProperty = CollUtil.getLast(CharSequenceUtil.split(property, StringConstants.DOT));
-            } else {
-                checkProperty = property;
-            }
-            Optional<Field> optional = entityFields.stream()
-                .filter(field -> checkProperty.equals(field.getName()))
-                .findFirst();
-            ValidationUtils.throwIf(optional.isEmpty(), "无效的排序字段 [{}]", property);
-            queryWrapper.orderBy(CharSequenceUtil.toUnderlineCase(property), order.isAscending());
+            String column = this.getSortField(order.getProperty()).column();
+            queryWrapper.orderBy(column, order.isAscending());
         }
     }
 
+    /**
+     * 批量新增（单批）
+     *
+     * @param items 批量操作数据列表
+     * @return ID 列表
+     */
+    private List<Long> doBatchAdd(List<BatchUtils.Item<C>> items) {
+        List<C> reqList = items.stream().map(BatchUtils.Item::req).toList();
+        this.beforeAddBatch(reqList);
+        List<T> entityList = BeanCopyUtils.copyToList(reqList, this.entityClass);
+        mapper.insertBatch(entityList);
+        this.afterAddBatch(reqList, entityList);
+        return entityList.stream().map(BaseIdDO::getId).toList();
+    }
+
+    /**
+     * 批量修改（单批）
+     *
+     * @param items 批量操作数据列表
+     * @return ID 列表
+     */
+    private List<Long> doBatchUpdate(List<BatchUtils.Item<C>> items) {
+        Map<Long, C> reqMap = new LinkedHashMap<>(items.size());
+        items.forEach(item -> reqMap.put(item.id(), item.req()));
+        this.beforeUpdateBatch(reqMap);
+        Map<Long, T> entityMap = mapper.selectListByIds(reqMap.keySet()).stream()
+            .collect(Collectors.toMap(BaseIdDO::getId, Function.identity()));
+        List<T> entityList = new ArrayList<>(reqMap.size());
+        reqMap.forEach((id, req) -> {
+            T entity = entityMap.get(id);
+            CheckUtils.throwIfNotExists(entity, ClassUtil.getClassName(this.entityClass, true), "ID", id);
+            BeanCopyUtils.copyProperties(req, entity, true);
+            entityList.add(entity);
+        });
+        mapper.updateBatchById(entityList);
+        this.afterUpdateBatch(reqMap, entityList);
+        return new ArrayList<>(reqMap.keySet());
+    }
+
+    /**
+     * 获取批量操作唯一键（同一请求中唯一键相同的数据仅处理第一条，其余记为失败；返回 null 表示不检查）
+     * <p>
+     * 前置处理中的唯一性校验只能发现已入库的重复数据，如有唯一性要求，应重写此方法返回对应字段
+     * </p>
+     *
+     * @param req 请求参数
+     * @return 唯一键
+     */
+    protected Object getBatchUniqueKey(C req) {
+        return null;
+    }
+
+    /**
+     * 获取批量操作每批条数
+     *
+     * @return 每批条数
+     */
+    protected int getBatchChunkSize() {
+        return SpringUtil.getBean(CrudProperties.class).getBatch().getChunkSize();
+    }
+
+    /**
+     * 获取批量操作单次请求最大条数
+     *
+     * @return 单次请求最大条数
+     */
+    protected int getBatchMaxSize() {
+        return SpringUtil.getBean(CrudProperties.class).getBatch().getMaxSize();
+    }
+
+    /**
+     * 检查批量操作单次请求条数
+     *
+     * @param size 请求条数
+     */
+    protected void checkBatchSize(int size) {
+        int maxSize = this.getBatchMaxSize();
+        ValidationUtils.throwIf(size > maxSize, "单次批量操作数据不能超过 {} 条", maxSize);
+    }
+
+    /**
+     * 获取批量操作事务模板（每批在独立事务中提交）
+     *
+     * @return 事务模板
+     */
+    protected TransactionTemplate getBatchTransactionTemplate() {
+        if (this.batchTransactionTemplate == null) {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(SpringUtil
+                .getBean(PlatformTransactionManager.class));
+            transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            this.batchTransactionTemplate = transactionTemplate;
+        }
+        return this.batchTransactionTemplate;
+    }
+
+    /**
+     * 获取排序字段
+     *
+     * @param property 排序属性（支持携带表别名，例如：t1.createTime）
+     * @return 排序字段
+     */
+    protected SortFieldUtils.SortField getSortField(String property) {
+        SortFieldUtils.SortField sortField = SortFieldUtils.getSortField(this.entityClass, property);
+        ValidationUtils.throwIfNull(sortField, "无效的排序字段 [{}]", property);
+        return sortField;
+    }
+
     /**
      * 填充数据
+     * <p>
+     * 同时作为逐条填充的扩展点：列表（分页、列表、导出）批量填充后，会对每条数据回调本方法，子类重写时调用 super.fill(obj) 即可，
+     * 批量填充过程中基类不会重复执行 Crane4j 填充
+     * </p>
      *
      * @param obj 待填充信息
      */
     protected void fill(Object obj) {
-        if (null == obj) {
+        if (null == obj || Boolean.TRUE.equals(BATCH_FILLED.get())) {
             return;
         }
-        OperateTemplate operateTemplate = SpringUtil.getBean(OperateTemplate.class);
-        operateTemplate.execute(obj);
+        this.getOperateTemplate().execute(obj);
+    }
+
+    /**
+     * 批量填充数据
+     * <p>
+     * 整个集合一次性交由 Crane4j 处理，同一数据源容器的 key 会合并后批量查询，避免逐条填充导致的 N+1 查询；
+     * 之后对每条数据回调 {@link #fill(Object)}
+     * </p>
+     *
+     * @param list 待填充信息列表
+     * @since 2.7.5
+     */
+    protected void fill(Collection<?> list) {
+        if (CollUtil.isEmpty(list)) {
+            return;
+        }
+        this.getOperateTemplate().execute(list);
+        // 逐条回调单条填充扩展点（兼容重写 fill(Object) 的子类）
+        Boolean batchFilled = BATCH_FILLED.get();
+        BATCH_FILLED.set(Boolean.TRUE);
+        try {
+            for (Object obj : list) {
+                this.fill(obj);
+            }
+        } finally {
+            if (null == batchFilled) {
+                BATCH_FILLED.remove();
+            } else {
+                BATCH_FILLED.set(batchFilled);
+            }
+        }
+    }
+
+    /**
+     * 定位游标：(c1 > v1) OR (c1 = v1 AND c2 > v2) OR ...（降序使用 <，空值按数据库空值排序规则处理）
+     *
+     * @param queryWrapper 查询条件封装对象
+     * @param orders       游标排序字段列表
+     * @param cursorValues 游标各排序字段值（为空时不定位，即从第一条开始）
+     */
+    protected void seekCursor(QueryWrapper queryWrapper,
+                              List<CursorUtils.CursorOrder> orders,
+                              List<Object> cursorValues) {
+        if (null == cursorValues) {
+            return;
+        }
+        boolean nullsSmallest = this.isNullsSmallest();
+        queryWrapper.and(wrapper -> {
+            for (int i = 0; i < orders.size(); i++) {
+                CursorUtils.CursorOrder order = orders.get(i);
+                Object value = cursorValues.get(i);
+                boolean nullsFirst = CursorUtils.isNullsFirst(order, nullsSmallest);
+                // 游标值为空且空值排在后面时，该字段不存在更靠后的值
+                if (null == value && !nullsFirst) {
+                    continue;
+                }
+                int index = i;
+                wrapper.or(branch -> {
+                    for (int j = 0; j < index; j++) {
+                        QueryColumn prevColumn = QueryMethods.column(orders.get(j).column());
+                        Object prevValue = cursorValues.get(j);
+                        branch.and(null == prevValue ? prevColumn.isNull() : prevColumn.eq(prevValue));
+                    }
+                    QueryColumn column = QueryMethods.column(order.column());
+                    if (null == value) {
+                        branch.and(column.isNotNull());
+                    } else {
+                        QueryCondition seek = order.asc() ? column.gt(value) : column.lt(value);
+                        branch.and(nullsFirst ? seek : seek.or(column.isNull()));
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * 子类是否重写了列表查询方法 {@link #list(Object, SortQuery, Class)}
+     *
+     * @return 是否重写
+     */
+    private boolean isListOverridden() {
+        for (Class<?> clazz = this.getClass(); BaseServiceImpl.class != clazz; clazz = clazz.getSuperclass()) {
+            try {
+                // 泛型方法重写后会生成同签名的桥接方法
+                clazz.getDeclaredMethod("list", Object.class, SortQuery.class, Class.class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // 继续查找父类
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 数据库是否将空值视为最小值（用于游标分页定位空值，PostgreSQL 视为最大值，其他数据库按 MySQL 视为最小值）
+     *
+     * @return 是否将空值视为最小值
+     * @since 2.7.5
+     */
+    protected boolean isNullsSmallest() {
+        if (null == this.nullsSmallest) {
+            DatabaseType databaseType = MetaUtils.getDatabaseTypeOrDefault(SpringUtil
+                .getBean(DataSource.class), DatabaseType.MYSQL);
+            this.nullsSmallest = DatabaseType.POSTGRE_SQL != databaseType;
+        }
+        return this.nullsSmallest;
+    }
+
+    /**
+     * 获取 Crane4j 操作模板
+     *
+     * @return Crane4j 操作模板
+     */
+    protected OperateTemplate getOperateTemplate() {
+        if (this.operateTemplate == null) {
+            this.operateTemplate = SpringUtil.getBean(OperateTemplate.class);
+        }
+        return this.operateTemplate;
     }
 
     /**
@@ -323,4 +720,46 @@ public abstract class BaseServiceImpl<M extends BaseMapper<T>, T extends BaseIdD
         return (Class<Q>)this.typeArguments[4];
     }
 
+    /**
+     * 批量新增前置处理（每批执行一次，默认逐条执行 {@link #beforeAdd}）
+     *
+     * @param reqList 创建信息列表
+     */
+    protected void beforeAddBatch(List<C> reqList) {
+        reqList.forEach(this::beforeAdd);
+    }
+
+    /**
+     * 批量修改前置处理（每批执行一次，默认逐条执行 {@link #beforeUpdate}）
+     *
+     * @param reqMap 修改信息（Key：ID）
+     */
+    protected void beforeUpdateBatch(Map<Long, C> reqMap) {
+        reqMap.forEach((id, req) -> this.beforeUpdate(req, id));
+    }
+
+    /**
+     * 批量新增后置处理（每批执行一次，默认逐条执行 {@link #afterAdd}）
+     *
+     * @param reqList    创建信息列表
+     * @param entityList 实体信息列表（与创建信息列表顺序一致）
+     */
+    protected void afterAddBatch(List<C> reqList, List<T> entityList) {
+        for (int i = 0; i < reqList.size(); i++) {
+            this.afterAdd(reqList.get(i), entityList.get(i));
+        }
+    }
+
+    /**
+     * 批量修改后置处理（每批执行一次，默认逐条执行 {@link #afterUpdate}）
+     *
+     * @param reqMap     修改信息（Key：ID）
+     * @param entityList 实体信息列表（与修改信息顺序一致）
+     */
+    protected void afterUpdateBatch(Map<Long, C> reqMap, List<T> entityList) {
+        int index = 0;
+        for (C req : reqMap.values()) {
+            this.afterUpdate(req, entityList.get(index++));
+        }
+    }
 }
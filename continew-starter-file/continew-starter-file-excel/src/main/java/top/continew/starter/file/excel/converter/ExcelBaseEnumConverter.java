@@ -16,8 +16,6 @@
 
 package top.continew.starter.file.excel.converter;
 
-import cn.hutool.core.convert.Convert;
-import cn.hutool.core.util.ClassUtil;
 import com.alibaba.excel.converters.Converter;
 import com.alibaba.excel.enums.CellDataTypeEnum;
 import com.alibaba.excel.metadata.GlobalConfiguration;
@@ -26,6 +24,7 @@ import com.alibaba.excel.metadata.data.WriteCellData;
 import com.alibaba.excel.metadata.property.ExcelContentProperty;
 import top.continew.starter.core.constant.StringConstants;
 import top.continew.starter.core.enums.BaseEnum;
+import top.continew.starter.core.util.BaseEnumUtils;
 
 /**
  * Easy Excel 枚举接口转换器
@@ -53,7 +52,10 @@ public class ExcelBaseEnumConverter implements Converter<BaseEnum<Integer>> {
     public BaseEnum convertToJavaData(ReadCellData<?> cellData,
                                       ExcelContentProperty contentProperty,
                                       GlobalConfiguration globalConfiguration) {
-        return this.getEnum(BaseEnum.class, Convert.toStr(cellData.getData()));
+        if (null == contentProperty || null == contentProperty.getField()) {
+            return null;
+        }
+        return BaseEnumUtils.getByDescription(contentProperty.getField().getType(), cellData.getStringValue());
     }
 
     /**
@@ -68,24 +70,4 @@ public class ExcelBaseEnumConverter implements Converter<BaseEnum<Integer>> {
         }
         return new WriteCellData<>(value.getDescription());
     }
-
-    /**
-     * 通过 value 获取枚举对象，获取不到时为 {@code null}
-     *
-     * @param enumType    枚举类型
-     * @param description 描述
-     * @return 对应枚举 ，获取不到时为 {@code null}
-     */
-    private BaseEnum<Integer> getEnum(Class<?> enumType, String description) {
-        Object[] enumConstants = enumType.getEnumConstants();
-        for (Object enumConstant : enumConstants) {
-            if (ClassUtil.isAssignable(BaseEnum.class, enumType)) {
-                BaseEnum<Integer> baseEnum = (BaseEnum<Integer>)enumConstant;
-                if (baseEnum.getDescription().equals(description)) {
-                    return baseEnum;
-                }
-            }
-        }
-        return null;
-    }
 }
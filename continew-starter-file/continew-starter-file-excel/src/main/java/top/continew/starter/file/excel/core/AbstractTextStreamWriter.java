@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.file.excel.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import top.continew.starter.core.exception.BaseException;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 文本格式流式写入器
+ * <p>
+ * 直接按行写出到输出流（可选 gzip 压缩），不经过 EasyExcel/POI，适用于面向程序消费的大数据量导出。使用完毕后需关闭（不会关闭底层输出流）。
+ * </p>
+ *
+ * @param <T> 导出数据类型
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public abstract class AbstractTextStreamWriter<T> implements DataStreamWriter<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(AbstractTextStreamWriter.class);
+
+    /**
+     * 缓冲区大小
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    protected final List<ExportColumn> columns;
+    protected final Writer writer;
+    private final OutputStream outputStream;
+    private boolean started;
+    private long rowCount;
+
+    protected AbstractTextStreamWriter(OutputStream outputStream, Class<T> clazz, boolean gzip) {
+        try {
+            this.outputStream = gzip ? new GZIPOutputStream(outputStream, BUFFER_SIZE) : outputStream;
+        } catch (IOException e) {
+            throw new BaseException("导出数据出现错误", e);
+        }
+        this.writer = new BufferedWriter(new OutputStreamWriter(this.outputStream,
+            StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.columns = ExportColumn.of(clazz);
+    }
+
+    @Override
+    public void write(Collection<T> list) {
+        try {
+            this.start();
+            if (null == list || list.isEmpty()) {
+                return;
+            }
+            for (T row : list) {
+                this.writeRow(row);
+            }
+            rowCount += list.size();
+            // 每批刷出一次，使客户端可边下载边处理
+            writer.flush();
+        } catch (IOException e) {
+            log.error("Write data occurred an error: {}. rowCount: {}.", e.getMessage(), rowCount, e);
+            throw new BaseException("导出数据出现错误");
+        }
+    }
+
+    @Override
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public void close() {
+        try {
+            this.start();
+            writer.flush();
+            if (outputStream instanceof GZIPOutputStream gzipOutputStream) {
+                gzipOutputStream.finish();
+            }
+            outputStream.flush();
+        } catch (IOException e) {
+            log.error("Write data occurred an error: {}. rowCount: {}.", e.getMessage(), rowCount, e);
+            throw new BaseException("导出数据出现错误");
+        }
+    }
+
+    /**
+     * 写入表头（首次写入时调用）
+     *
+     * @throws IOException IO 异常
+     */
+    protected void writeHeader() throws IOException {
+    }
+
+    /**
+     * 写入一行数据
+     *
+     * @param row 数据
+     * @throws IOException IO 异常
+     */
+    protected abstract void writeRow(T row) throws IOException;
+
+    private void start() throws IOException {
+        if (!started) {
+            started = true;
+            this.writeHeader();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.file.excel.core;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * CSV 流式写入器（RFC 4180，UTF-8 BOM，首行为表头）
+ * <p>
+ * 写入 UTF-8 BOM，避免 Excel 打开时中文乱码；以 =、+、-、@、制表符、回车开头的非数值单元格前加单引号，防止 Excel 将其作为公式执行（CSV 注入）。
+ * </p>
+ *
+ * @param <T> 导出数据类型
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public class CsvStreamWriter<T> extends AbstractTextStreamWriter<T> {
+
+    /**
+     * UTF-8 BOM
+     */
+    private static final char BOM = '\uFEFF';
+
+    public CsvStreamWriter(OutputStream outputStream, Class<T> clazz, boolean gzip) {
+        super(outputStream, clazz, gzip);
+    }
+
+    @Override
+    protected void writeHeader() throws IOException {
+        writer.write(BOM);
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            this.writeCell(this.escapeFormula(columns.get(i).getHead()));
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    protected void writeRow(T row) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = columns.get(i).getValue(row);
+            if (null != value) {
+                // 数值（如负数）不会被作为公式执行，无需转义
+                this.writeCell(value instanceof Number ? value.toString() : this.escapeFormula(value.toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * 转义公式（以公式起始字符开头时加单引号前缀）
+     *
+     * @param value 值
+     * @return 转义后的值
+     */
+    private String escapeFormula(String value) {
+        if (value.isEmpty()) {
+            return value;
+        }
+        return switch (value.charAt(0)) {
+            case '=', '+', '-', '@', '\t', '\r' -> "'" + value;
+            default -> value;
+        };
+    }
+
+    /**
+     * 写入单元格（包含逗号、双引号或换行时使用双引号包裹，双引号转义为两个双引号）
+     *
+     * @param value 值
+     * @throws IOException IO 异常
+     */
+    private void writeCell(String value) throws IOException {
+        boolean needQuote = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\r' || c == '\n') {
+                needQuote = true;
+                break;
+            }
+        }
+        if (!needQuote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.file.excel.core;
+
+import java.util.Collection;
+
+/**
+ * 流式写入器
+ *
+ * @param <T> 导出数据类型
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public interface DataStreamWriter<T> extends AutoCloseable {
+
+    /**
+     * 写入一批数据
+     *
+     * @param list 数据集合
+     */
+    void write(Collection<T> list);
+
+    /**
+     * 获取已写入行数
+     *
+     * @return 已写入行数
+     */
+    long getRowCount();
+
+    @Override
+    void close();
+}
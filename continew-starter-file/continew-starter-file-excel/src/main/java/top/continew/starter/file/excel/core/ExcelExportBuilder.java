@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.file.excel.core;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.StrUtil;
+import com.alibaba.excel.EasyExcelFactory;
+import com.alibaba.excel.ExcelWriter;
+import com.alibaba.excel.write.builder.ExcelWriterBuilder;
+import com.alibaba.excel.write.metadata.WriteSheet;
+import com.alibaba.excel.write.style.column.LongestMatchColumnWidthStyleStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import top.continew.starter.core.exception.BaseException;
+import top.continew.starter.file.excel.converter.ExcelBigNumberConverter;
+import top.continew.starter.file.excel.handler.SampledColumnWidthStyleStrategy;
+
+import java.io.OutputStream;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Excel 导出构建器
+ * <p>
+ * 1. 支持多个工作表，单个工作表超出行数上限时自动续写到新工作表（名称追加序号，如：用户_2）；<br>
+ * 2. 默认仅根据前 N 行数据估算列宽（sampleRows 为 0 时测量全部数据）；<br>
+ * 3. 指定 executor 时，源数据到导出数据的转换（mapper）按批并行执行，写入仍由当前线程按原顺序串行完成，
+ * 同时最多 parallelism 个批次在转换中，内存占用与总行数无关。
+ * </p>
+ *
+ * @param <T> 导出数据类型
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public class ExcelExportBuilder<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(ExcelExportBuilder.class);
+
+    /**
+     * 默认单个工作表最大数据行数（Excel 单个工作表最多 1048576 行）
+     */
+    public static final int DEFAULT_MAX_ROWS_PER_SHEET = 1_000_000;
+
+    /**
+     * 默认批次大小
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    /**
+     * Excel 工作表名称最大长度
+     */
+    private static final int MAX_SHEET_NAME_LENGTH = 31;
+
+    private final OutputStream outputStream;
+    private final Class<T> clazz;
+    private final List<SheetData<?, T>> sheets = new ArrayList<>();
+    private Set<String> excludeColumnFieldNames = Collections.emptySet();
+    private int sampleRows = SampledColumnWidthStyleStrategy.DEFAULT_SAMPLE_ROWS;
+    private int maxRowsPerSheet = DEFAULT_MAX_ROWS_PER_SHEET;
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    private Executor executor;
+    private int parallelism = 1;
+
+    public ExcelExportBuilder(OutputStream outputStream, Class<T> clazz) {
+        this.outputStream = outputStream;
+        this.clazz = clazz;
+    }
+
+    /**
+     * 添加工作表
+     *
+     * @param sheetName 工作表名称
+     * @param data      导出数据（可为按需加载的 Iterable）
+     * @return 当前构建器
+     */
+    public ExcelExportBuilder<T> sheet(String sheetName, Iterable<? extends T> data) {
+        return this.sheet(sheetName, data, null);
+    }
+
+    /**
+     * 添加工作表
+     *
+     * @param sheetName 工作表名称
+     * @param data      源数据（可为按需加载的 Iterable）
+     * @param mapper    源数据到导出数据的转换器（指定 executor 时并行执行，需线程安全）
+     * @return 当前构建器
+     */
+    public <S> ExcelExportBuilder<T> sheet(String sheetName,
+                                           Iterable<S> data,
+                                           Function<? super S, ? extends T> mapper) {
+        Assert.notBlank(sheetName, "工作表名称不能为空");
+        sheets.add(new SheetData<>(sheetName, null == data ? Collections.emptyList() : data, mapper));
+        return this;
+    }
+
+    /**
+     * 排除字段
+     *
+     * @param excludeColumnFieldNames 排除字段
+     * @return 当前构建器
+     */
+    public ExcelExportBuilder<T> excludeColumnFieldNames(Set<String> excludeColumnFieldNames) {
+        this.excludeColumnFieldNames = null == excludeColumnFieldNames
+            ? Collections.emptySet()
+            : excludeColumnFieldNames;
+        return this;
+    }
+
+    /**
+     * 列宽采样行数（为 0 时测量全部数据）
+     *
+     * @param sampleRows 采样行数
+     * @return 当前构建器
+     */
+    public ExcelExportBuilder<T> sampleRows(int sampleRows) {
+        Assert.isTrue(sampleRows >= 0, "采样行数不能小于 0");
+        this.sampleRows = sampleRows;
+        return this;
+    }
+
+    /**
+     * 单个工作表最大数据行数（超出后续写到新工作表）
+     *
+     * @param maxRowsPerSheet 单个工作表最大数据行数
+     * @return 当前构建器
+     */
+    public ExcelExportBuilder<T> maxRowsPerSheet(int maxRowsPerSheet) {
+        Assert.isTrue(maxRowsPerSheet > 0, "单个工作表最大数据行数必须大于 0");
+        this.maxRowsPerSheet = maxRowsPerSheet;
+        return this;
+    }
+
+    /**
+     * 批次大小（每批转换、写入的行数）
+     *
+     * @param chunkSize 批次大小
+     * @return 当前构建器
+     */
+    public ExcelExportBuilder<T> chunkSize(int chunkSize) {
+        Assert.isTrue(chunkSize > 0, "批次大小必须大于 0");
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * 并行转换
+     *
+     * @param executor    转换线程池
+     * @param parallelism 最大并行转换批次数（建议不超过 CPU 核数）
+     * @return 当前构建器
+     */
+    public ExcelExportBuilder<T> executor(Executor executor, int parallelism) {
+        Assert.isTrue(parallelism > 0, "最大并行转换批次数必须大于 0");
+        this.executor = executor;
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * 执行导出
+     */
+    public void doExport() {
+        ExcelWriterBuilder excelWriterBuilder = EasyExcelFactory.write(outputStream, clazz)
+            .autoCloseStream(false)
+            // 自动适配宽度
+            .registerWriteHandler(sampleRows > 0
+                ? new SampledColumnWidthStyleStrategy(sampleRows)
+                : new LongestMatchColumnWidthStyleStrategy())
+            // 自动转换大数值
+            .registerConverter(new ExcelBigNumberConverter())
+            .excludeColumnFieldNames(excludeColumnFieldNames);
+        try (ExcelWriter excelWriter = excelWriterBuilder.build()) {
+            if (sheets.isEmpty()) {
+                excelWriter.write(Collections.emptyList(), EasyExcelFactory.writerSheet(0, "Sheet1").build());
+                return;
+            }
+            int sheetNo = 0;
+            Set<String> usedSheetNames = new HashSet<>();
+            for (SheetData<?, T> sheet : sheets) {
+                sheetNo = this.writeSheet(excelWriter, sheet, sheetNo, usedSheetNames);
+            }
+        } catch (BaseException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Export excel occurred an error: {}.", e.getMessage(), e);
+            throw new BaseException("导出 Excel 出现错误");
+        }
+    }
+
+    /**
+     * 写入工作表
+     *
+     * @param excelWriter Excel 写入器
+     * @param sheet       工作表数据
+     * @param sheetNo        起始工作表序号
+     * @param usedSheetNames 已使用的工作表名称（小写）
+     * @return 下一个工作表序号
+     */
+    private int writeSheet(ExcelWriter excelWriter, SheetData<?, T> sheet, int sheetNo, Set<String> usedSheetNames) {
+        Iterator<List<T>> chunkIterator = sheet.chunkIterator(chunkSize, executor, parallelism);
+        int part = 1;
+        String sheetName = this.getUniqueSheetName(StrUtil.sub(sheet.name(), 0, MAX_SHEET_NAME_LENGTH), usedSheetNames);
+        WriteSheet writeSheet = EasyExcelFactory.writerSheet(sheetNo++, sheetName).build();
+        long rowCount = 0;
+        boolean written = false;
+        while (chunkIterator.hasNext()) {
+            List<T> chunk = chunkIterator.next();
+            int offset = 0;
+            while (offset < chunk.size()) {
+                if (rowCount >= maxRowsPerSheet) {
+                    sheetName = this.getUniqueSheetName(this.getPartSheetName(sheet.name(), ++part), usedSheetNames);
+                    writeSheet = EasyExcelFactory.writerSheet(sheetNo++, sheetName).build();
+                    rowCount = 0;
+                }
+                int end = (int)Math.min(chunk.size(), offset + maxRowsPerSheet - rowCount);
+                excelWriter.write(chunk.subList(offset, end), writeSheet);
+                rowCount += end - offset;
+                offset = end;
+                written = true;
+            }
+        }
+        if (!written) {
+            // 无数据时仅写入表头
+            excelWriter.write(Collections.emptyList(), writeSheet);
+        }
+        return sheetNo;
+    }
+
+    /**
+     * 获取续写工作表名称
+     *
+     * @param sheetName 工作表名称
+     * @param part      序号
+     * @return 续写工作表名称
+     */
+    private String getPartSheetName(String sheetName, int part) {
+        String suffix = "_" + part;
+        return StrUtil.sub(sheetName, 0, MAX_SHEET_NAME_LENGTH - suffix.length()) + suffix;
+    }
+
+    /**
+     * 获取不重复的工作表名称（Excel 工作表名称不区分大小写，重复时追加序号）
+     *
+     * @param sheetName      工作表名称（不超过最大长度）
+     * @param usedSheetNames 已使用的工作表名称（小写）
+     * @return 不重复的工作表名称
+     */
+    private String getUniqueSheetName(String sheetName, Set<String> usedSheetNames) {
+        String uniqueSheetName = sheetName;
+        for (int i = 2; !usedSheetNames.add(uniqueSheetName.toLowerCase()); i++) {
+            uniqueSheetName = this.getPartSheetName(sheetName, i);
+        }
+        return uniqueSheetName;
+    }
+
+    /**
+     * 工作表数据
+     *
+     * @param name   工作表名称
+     * @param data   源数据
+     * @param mapper 转换器
+     * @param <S>    源数据类型
+     * @param <T>    导出数据类型
+     */
+    private record SheetData<S, T>(String name, Iterable<S> data, Function<? super S, ? extends T> mapper) {
+
+        /**
+         * 获取按批转换后的数据迭代器（按源数据顺序返回）
+         */
+        private Iterator<List<T>> chunkIterator(int chunkSize, Executor executor, int parallelism) {
+            Iterator<S> source = data.iterator();
+            Deque<CompletableFuture<List<T>>> pending = new ArrayDeque<>(parallelism);
+            int maxPending = null == executor || null == mapper ? 1 : parallelism;
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    this.fill();
+                    return !pending.isEmpty();
+                }
+
+                @Override
+                public List<T> next() {
+                    this.fill();
+                    if (pending.isEmpty()) {
+                        throw new NoSuchElementException();
+                    }
+                    return pending.poll().join();
+                }
+
+                /**
+                 * 预读源数据并提交转换，直到在途批次达到上限
+                 */
+                private void fill() {
+                    while (pending.size() < maxPending && source.hasNext()) {
+                        List<S> chunk = new ArrayList<>(chunkSize);
+                        while (chunk.size() < chunkSize && source.hasNext()) {
+                            chunk.add(source.next());
+                        }
+                        pending.add(maxPending > 1
+                            ? CompletableFuture.supplyAsync(() -> map(chunk), executor)
+                            : CompletableFuture.completedFuture(map(chunk)));
+                    }
+                }
+            };
+        }
+
+        /**
+         * 转换一批数据
+         */
+        @SuppressWarnings("unchecked")
+        private List<T> map(List<S> chunk) {
+            if (null == mapper) {
+                return (List<T>)chunk;
+            }
+            List<T> result = new ArrayList<>(chunk.size());
+            for (S s : chunk) {
+                result.add(mapper.apply(s));
+            }
+            return result;
+        }
+    }
+}
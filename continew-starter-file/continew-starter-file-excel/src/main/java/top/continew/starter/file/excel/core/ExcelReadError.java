@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.file.excel.core;
+
+/**
+ * Excel 导入错误信息
+ *
+ * @param rowIndex    行号（从 1 开始，与 Excel 中显示的行号一致）
+ * @param columnIndex 列号（从 1 开始，无法定位到列时为 {@code null}）
+ * @param message     错误信息
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public record ExcelReadError(int rowIndex, Integer columnIndex, String message) {
+}
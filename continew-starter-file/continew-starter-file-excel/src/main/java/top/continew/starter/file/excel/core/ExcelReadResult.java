@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.file.excel.core;
+
+import java.util.List;
+
+/**
+ * Excel 导入结果
+ *
+ * @param totalCount   读取行数
+ * @param successCount 成功行数
+ * @param failureCount 失败行数
+ * @param errors       错误信息（按行号排序，超出收集上限的错误仅计入失败行数）
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public record ExcelReadResult(long totalCount, long successCount, long failureCount, List<ExcelReadError> errors) {
+
+    /**
+     * 是否全部成功
+     *
+     * @return true：全部成功；false：存在失败数据
+     */
+    public boolean isSuccess() {
+        return failureCount == 0;
+    }
+}
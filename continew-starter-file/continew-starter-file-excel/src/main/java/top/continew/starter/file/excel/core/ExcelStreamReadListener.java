@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.file.excel.core;
+
+import cn.hutool.core.lang.Assert;
+import com.alibaba.excel.context.AnalysisContext;
+import com.alibaba.excel.exception.ExcelDataConvertException;
+import com.alibaba.excel.read.listener.ReadListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import top.continew.starter.core.exception.BaseException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Excel 流式读取监听器
+ * <p>
+ * 逐行读取数据，每满一批（batchSize）校验后交由 sink 处理，内存中最多保留（maxPendingBatches + 1）批数据，内存占用与总行数无关。
+ * 数据格式错误、校验失败及 sink 处理失败的行会被收集为错误信息，不会中断导入。
+ * </p>
+ * <p>
+ * 指定 executor 时，各批数据的校验及 sink 处理将并行执行（sink 需线程安全，且调用顺序不保证与行顺序一致），
+ * 正在处理的批次达到 maxPendingBatches 时，读取线程将阻塞等待（背压），避免读取速度远大于处理速度时堆积数据。
+ * </p>
+ *
+ * @param <T> 导入数据类型
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public class ExcelStreamReadListener<T> implements ReadListener<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(ExcelStreamReadListener.class);
+
+    /**
+     * 默认批次大小
+     */
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    /**
+     * 默认错误信息收集上限
+     */
+    public static final int DEFAULT_MAX_ERRORS = 1000;
+
+    private final int batchSize;
+    private final Function<T, String> validator;
+    private final Consumer<List<T>> sink;
+    private final Executor executor;
+    private final int maxPendingBatches;
+    private final Semaphore pendingPermits;
+    private final List<ExcelReadError> errors = new ArrayList<>();
+    private final AtomicLong successCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private int maxErrors = DEFAULT_MAX_ERRORS;
+    private long totalCount;
+    private List<Row<T>> buffer;
+
+    public ExcelStreamReadListener(int batchSize, Consumer<List<T>> sink) {
+        this(batchSize, null, sink);
+    }
+
+    public ExcelStreamReadListener(int batchSize, Function<T, String> validator, Consumer<List<T>> sink) {
+        this(batchSize, validator, sink, null, 1);
+    }
+
+    /**
+     * 构造方法
+     *
+     * @param batchSize         批次大小
+     * @param validator         校验器（返回错误信息，校验通过返回 {@code null}）
+     * @param sink              批量处理器
+     * @param executor          并行处理线程池（为 {@code null} 时在读取线程中顺序处理）
+     * @param maxPendingBatches 最大并行处理批次数
+     */
+    public ExcelStreamReadListener(int batchSize,
+                                   Function<T, String> validator,
+                                   Consumer<List<T>> sink,
+                                   Executor executor,
+                                   int maxPendingBatches) {
+        Assert.isTrue(batchSize > 0, "批次大小必须大于 0");
+        Assert.isTrue(maxPendingBatches > 0, "最大并行处理批次数必须大于 0");
+        this.batchSize = batchSize;
+        this.validator = validator;
+        this.sink = Assert.notNull(sink, "批量处理器不能为空");
+        this.executor = executor;
+        this.maxPendingBatches = maxPendingBatches;
+        this.pendingPermits = new Semaphore(maxPendingBatches);
+        this.buffer = new ArrayList<>(batchSize);
+    }
+
+    @Override
+    public void invoke(T data, AnalysisContext context) {
+        totalCount++;
+        buffer.add(new Row<>(context.readRowHolder().getRowIndex() + 1, data));
+        if (buffer.size() >= batchSize) {
+            this.flush();
+        }
+    }
+
+    @Override
+    public void onException(Exception exception, AnalysisContext context) throws Exception {
+        if (exception instanceof ExcelDataConvertException e) {
+            // 数据格式错误仅跳过当前行，继续读取
+            totalCount++;
+            this.addError(e.getRowIndex() + 1, e.getColumnIndex() + 1, "数据格式不正确");
+            return;
+        }
+        throw exception;
+    }
+
+    @Override
+    public void doAfterAllAnalysed(AnalysisContext context) {
+        this.flush();
+        this.awaitPending();
+    }
+
+    /**
+     * 获取导入结果（等待所有批次处理完毕）
+     *
+     * @return 导入结果
+     */
+    public ExcelReadResult getResult() {
+        this.awaitPending();
+        List<ExcelReadError> sortedErrors;
+        synchronized (errors) {
+            sortedErrors = new ArrayList<>(errors);
+        }
+        sortedErrors.sort(Comparator.comparingInt(ExcelReadError::rowIndex));
+        return new ExcelReadResult(totalCount, successCount.get(), failureCount.get(), sortedErrors);
+    }
+
+    /**
+     * 设置错误信息收集上限（超出上限的错误仅计入失败行数）
+     *
+     * @param maxErrors 错误信息收集上限
+     */
+    public void setMaxErrors(int maxErrors) {
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * 提交当前缓冲的数据
+     */
+    private void flush() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        List<Row<T>> rows = buffer;
+        buffer = new ArrayList<>(batchSize);
+        if (null == executor) {
+            this.process(rows);
+            return;
+        }
+        try {
+            // 背压：处理中的批次达到上限时阻塞读取线程
+            pendingPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BaseException("导入 Excel 被中断");
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    this.process(rows);
+                } finally {
+                    pendingPermits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingPermits.release();
+            this.process(rows);
+        }
+    }
+
+    /**
+     * 处理一批数据
+     *
+     * @param rows 数据
+     */
+    private void process(List<Row<T>> rows) {
+        List<Row<T>> validRows = new ArrayList<>(rows.size());
+        for (Row<T> row : rows) {
+            String message;
+            try {
+                message = null == validator ? null : validator.apply(row.data());
+            } catch (Exception e) {
+                message = this.getMessage(e);
+            }
+            if (null == message) {
+                validRows.add(row);
+            } else {
+                this.addError(row.rowIndex(), null, message);
+            }
+        }
+        if (validRows.isEmpty()) {
+            return;
+        }
+        try {
+            sink.accept(validRows.stream().map(Row::data).toList());
+            successCount.addAndGet(validRows.size());
+        } catch (Exception e) {
+            String message = this.getMessage(e);
+            validRows.forEach(row -> this.addError(row.rowIndex(), null, message));
+        }
+    }
+
+    /**
+     * 等待所有处理中的批次完成
+     */
+    private void awaitPending() {
+        if (null == executor) {
+            return;
+        }
+        pendingPermits.acquireUninterruptibly(maxPendingBatches);
+        pendingPermits.release(maxPendingBatches);
+    }
+
+    /**
+     * 记录错误信息
+     *
+     * @param rowIndex    行号
+     * @param columnIndex 列号
+     * @param message     错误信息
+     */
+    private void addError(int rowIndex, Integer columnIndex, String message) {
+        failureCount.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < maxErrors) {
+                errors.add(new ExcelReadError(rowIndex, columnIndex, message));
+            }
+        }
+    }
+
+    /**
+     * 获取错误信息（非业务异常不对外暴露异常详情）
+     *
+     * @param e 异常
+     * @return 错误信息
+     */
+    private String getMessage(Exception e) {
+        if (e instanceof BaseException) {
+            return e.getMessage();
+        }
+        log.error("Import excel rows occurred an error: {}.", e.getMessage(), e);
+        return "数据处理失败";
+    }
+
+    /**
+     * 行数据
+     *
+     * @param rowIndex 行号
+     * @param data     数据
+     */
+    private record Row<T>(int rowIndex, T data) {
+    }
+}
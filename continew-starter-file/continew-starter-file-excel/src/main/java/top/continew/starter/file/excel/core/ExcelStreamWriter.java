@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.file.excel.core;
+
+import com.alibaba.excel.ExcelWriter;
+import com.alibaba.excel.write.metadata.WriteSheet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import top.continew.starter.core.exception.BaseException;
+
+import java.util.Collection;
+
+/**
+ * Excel 流式写入器
+ * <p>
+ * 分批写入数据，已写入的行由 EasyExcel（SXSSF）刷出到临时文件，内存占用与总行数无关。使用完毕后需关闭（推荐 try-with-resources）。
+ * </p>
+ *
+ * @param <T> 导出数据类型
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public class ExcelStreamWriter<T> implements DataStreamWriter<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(ExcelStreamWriter.class);
+
+    private final ExcelWriter excelWriter;
+    private final WriteSheet writeSheet;
+    private long rowCount;
+
+    public ExcelStreamWriter(ExcelWriter excelWriter, WriteSheet writeSheet) {
+        this.excelWriter = excelWriter;
+        this.writeSheet = writeSheet;
+    }
+
+    @Override
+    public void write(Collection<T> list) {
+        if (null == list || list.isEmpty()) {
+            return;
+        }
+        try {
+            excelWriter.write(list, writeSheet);
+            rowCount += list.size();
+        } catch (Exception e) {
+            log.error("Write excel occurred an error: {}. rowCount: {}.", e.getMessage(), rowCount, e);
+            throw new BaseException("导出 Excel 出现错误");
+        }
+    }
+
+    @Override
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public void close() {
+        excelWriter.finish();
+    }
+}
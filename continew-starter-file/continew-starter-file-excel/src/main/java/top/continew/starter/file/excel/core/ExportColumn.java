@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.file.excel.core;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.date.DatePattern;
+import cn.hutool.core.date.DateUtil;
+import cn.hutool.core.util.ArrayUtil;
+import cn.hutool.core.util.StrUtil;
+import com.alibaba.excel.annotation.ExcelIgnore;
+import com.alibaba.excel.annotation.ExcelIgnoreUnannotated;
+import com.alibaba.excel.annotation.ExcelProperty;
+import com.alibaba.excel.annotation.format.DateTimeFormat;
+import top.continew.starter.core.constant.StringConstants;
+import top.continew.starter.core.enums.BaseEnum;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.*;
+
+/**
+ * 导出列（根据 {@link ExcelProperty} 等 EasyExcel 注解解析，供 CSV、NDJSON 等文本格式导出复用 Excel 导出的列定义）
+ *
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public class ExportColumn {
+
+    private static final ClassValue<List<ExportColumn>> COLUMN_CACHE = new ClassValue<>() {
+        @Override
+        protected List<ExportColumn> computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    private final Field field;
+    private final String head;
+    private final String datePattern;
+    private final DateTimeFormatter dateTimeFormatter;
+
+    private ExportColumn(Field field, String head, String datePattern) {
+        this.field = field;
+        this.head = head;
+        this.datePattern = datePattern;
+        this.dateTimeFormatter = null == datePattern ? null : DateTimeFormatter.ofPattern(datePattern);
+    }
+
+    /**
+     * 获取导出列（按列顺序）
+     *
+     * @param clazz 导出数据类型
+     * @return 导出列
+     */
+    public static List<ExportColumn> of(Class<?> clazz) {
+        return COLUMN_CACHE.get(clazz);
+    }
+
+    /**
+     * 获取字段名
+     *
+     * @return 字段名
+     */
+    public String getName() {
+        return field.getName();
+    }
+
+    /**
+     * 获取表头
+     *
+     * @return 表头
+     */
+    public String getHead() {
+        return head;
+    }
+
+    /**
+     * 获取导出值
+     * <p>
+     * 与 Excel 导出保持一致：枚举转换为描述，日期按 {@link DateTimeFormat} 格式化（默认：yyyy-MM-dd HH:mm:ss），集合以逗号拼接；数值、布尔值保持原类型
+     * </p>
+     *
+     * @param obj 数据
+     * @return 导出值（String、Number、Boolean 或 {@code null}）
+     */
+    public Object getValue(Object obj) {
+        Object value;
+        try {
+            value = field.get(obj);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+        if (null == value || value instanceof Number || value instanceof Boolean || value instanceof String) {
+            return value;
+        }
+        if (value instanceof BaseEnum<?> baseEnum) {
+            return baseEnum.getDescription();
+        }
+        if (value instanceof Date date) {
+            return DateUtil.format(date, null == datePattern ? DatePattern.NORM_DATETIME_PATTERN : datePattern);
+        }
+        if (value instanceof TemporalAccessor temporal) {
+            if (null != dateTimeFormatter) {
+                return dateTimeFormatter.format(temporal);
+            }
+            return value instanceof LocalDateTime ? DatePattern.NORM_DATETIME_FORMATTER.format(temporal) : value
+                .toString();
+        }
+        if (value instanceof Collection<?> collection) {
+            return CollUtil.join(collection, StringConstants.COMMA);
+        }
+        return value.toString();
+    }
+
+    /**
+     * 解析导出列
+     *
+     * @param clazz 导出数据类型
+     * @return 导出列
+     */
+    private static List<ExportColumn> resolve(Class<?> clazz) {
+        boolean ignoreUnannotated = clazz.isAnnotationPresent(ExcelIgnoreUnannotated.class);
+        // 父类字段在前
+        Deque<Class<?>> hierarchy = new ArrayDeque<>();
+        for (Class<?> c = clazz; null != c && c != Object.class; c = c.getSuperclass()) {
+            hierarchy.push(c);
+        }
+        List<Field> fields = new ArrayList<>();
+        Set<String> fieldNames = new HashSet<>();
+        for (Class<?> c : hierarchy) {
+            for (Field field : c.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.isAnnotationPresent(ExcelIgnore.class)) {
+                    continue;
+                }
+                if (ignoreUnannotated && !field.isAnnotationPresent(ExcelProperty.class)) {
+                    continue;
+                }
+                // 子类同名字段覆盖父类字段
+                if (!fieldNames.add(field.getName())) {
+                    fields.removeIf(f -> f.getName().equals(field.getName()));
+                }
+                fields.add(field);
+            }
+        }
+        // 与 EasyExcel 一致：指定 index 的列优先，其次按 order 排序，未指定时保持声明顺序
+        fields.sort(Comparator.comparingInt(ExportColumn::getIndex).thenComparingInt(ExportColumn::getOrder));
+        List<ExportColumn> columns = new ArrayList<>(fields.size());
+        for (Field field : fields) {
+            field.setAccessible(true);
+            ExcelProperty excelProperty = field.getAnnotation(ExcelProperty.class);
+            String head = field.getName();
+            if (null != excelProperty && ArrayUtil.isNotEmpty(excelProperty.value())) {
+                String lastHead = ArrayUtil.get(excelProperty.value(), -1);
+                head = StrUtil.isBlank(lastHead) ? head : lastHead;
+            }
+            DateTimeFormat dateTimeFormat = field.getAnnotation(DateTimeFormat.class);
+            String datePattern = null == dateTimeFormat || StrUtil.isBlank(dateTimeFormat.value())
+                ? null
+                : dateTimeFormat.value();
+            columns.add(new ExportColumn(field, head, datePattern));
+        }
+        return Collections.unmodifiableList(columns);
+    }
+
+    private static int getIndex(Field field) {
+        ExcelProperty excelProperty = field.getAnnotation(ExcelProperty.class);
+        return null == excelProperty || excelProperty.index() < 0 ? Integer.MAX_VALUE : excelProperty.index();
+    }
+
+    private static int getOrder(Field field) {
+        ExcelProperty excelProperty = field.getAnnotation(ExcelProperty.class);
+        return null == excelProperty ? Integer.MAX_VALUE : excelProperty.order();
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.file.excel.core;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * NDJSON 流式写入器（每行一个 JSON 对象，键为字段名）
+ *
+ * @param <T> 导出数据类型
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public class NdjsonStreamWriter<T> extends AbstractTextStreamWriter<T> {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * JS：Number.MAX_SAFE_INTEGER
+     */
+    private static final long MAX_SAFE_INTEGER = 9007199254740991L;
+
+    public NdjsonStreamWriter(OutputStream outputStream, Class<T> clazz, boolean gzip) {
+        super(outputStream, clazz, gzip);
+    }
+
+    @Override
+    protected void writeRow(T row) throws IOException {
+        writer.write('{');
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            ExportColumn column = columns.get(i);
+            this.writeString(column.getName());
+            writer.write(':');
+            Object value = column.getValue(row);
+            if (null == value) {
+                writer.write("null");
+            } else if (value instanceof Boolean || (value instanceof Number number && this.isSafeNumber(number))) {
+                writer.write(value.toString());
+            } else {
+                this.writeString(value.toString());
+            }
+        }
+        writer.write("}\n");
+    }
+
+    /**
+     * 写入 JSON 字符串
+     *
+     * @param value 值
+     * @throws IOException IO 异常
+     */
+    private void writeString(String value) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> writer.write("\\\"");
+                case '\\' -> writer.write("\\\\");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                case '\t' -> writer.write("\\t");
+                // 行分隔符、段分隔符在部分 JavaScript 解析器中不合法，统一转义
+                case '\u2028' -> writer.write("\\u2028");
+                case '\u2029' -> writer.write("\\u2029");
+                default -> {
+                    if (c < 0x20) {
+                        writer.write("\\u00");
+                        writer.write(HEX_DIGITS[c >> 4]);
+                        writer.write(HEX_DIGITS[c & 0xF]);
+                    } else {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+        writer.write('"');
+    }
+
+    /**
+     * 是否可直接写为 JSON 数值
+     * <p>
+     * NaN、Infinity 不是合法的 JSON 数值；超出 JS 安全整数范围（如雪花 ID）的数值写为数值会在前端丢失精度，与
+     * BigNumberSerializer 保持一致，均写为字符串
+     * </p>
+     *
+     * @param number 数值
+     * @return 是否可直接写为 JSON 数值
+     */
+    private boolean isSafeNumber(Number number) {
+        if (number instanceof Double d) {
+            return Double.isFinite(d);
+        }
+        if (number instanceof Float f) {
+            return Float.isFinite(f);
+        }
+        if (number instanceof BigInteger bigInteger) {
+            return bigInteger.abs().compareTo(BigInteger.valueOf(MAX_SAFE_INTEGER)) <= 0;
+        }
+        if (number instanceof BigDecimal bigDecimal) {
+            return bigDecimal.abs().compareTo(BigDecimal.valueOf(MAX_SAFE_INTEGER)) <= 0;
+        }
+        long value = number.longValue();
+        return value >= -MAX_SAFE_INTEGER && value <= MAX_SAFE_INTEGER;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.file.excel.enums;
+
+import cn.hutool.core.util.StrUtil;
+
+/**
+ * 导出格式枚举
+ *
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public enum ExportFormat {
+
+    /**
+     * Excel
+     */
+    XLSX("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"),
+
+    /**
+     * CSV（RFC 4180）
+     */
+    CSV("csv", "text/csv"),
+
+    /**
+     * NDJSON（每行一个 JSON 对象）
+     */
+    NDJSON("ndjson", "application/x-ndjson");
+
+    private final String extension;
+    private final String contentType;
+
+    ExportFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    /**
+     * 解析导出格式
+     * <p>
+     * 优先使用显式指定的格式（如：format=csv），其次根据 Accept 请求头协商，均未匹配时为 {@link #XLSX}
+     * </p>
+     *
+     * @param format 格式（扩展名，不区分大小写）
+     * @param accept Accept 请求头
+     * @return 导出格式
+     */
+    public static ExportFormat resolve(String format, String accept) {
+        if (StrUtil.isNotBlank(format)) {
+            for (ExportFormat exportFormat : values()) {
+                if (exportFormat.extension.equalsIgnoreCase(format.trim())) {
+                    return exportFormat;
+                }
+            }
+        }
+        if (StrUtil.isNotBlank(accept)) {
+            if (StrUtil.containsIgnoreCase(accept, CSV.contentType)) {
+                return CSV;
+            }
+            if (StrUtil.containsIgnoreCase(accept, NDJSON.contentType)) {
+                return NDJSON;
+            }
+        }
+        return XLSX;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2022-present Charles7c Authors. All Rights Reserved.
+ * <p>
+ * Licensed under the GNU LESSER GENERAL PUBLIC LICENSE 3.0;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.gnu.org/licenses/lgpl.html
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package top.continew.starter.file.excel.handler;
+
+import cn.hutool.core.collection.CollUtil;
+import com.alibaba.excel.enums.CellDataTypeEnum;
+import com.alibaba.excel.metadata.Head;
+import com.alibaba.excel.metadata.data.WriteCellData;
+import com.alibaba.excel.write.metadata.holder.WriteSheetHolder;
+import com.alibaba.excel.write.style.column.AbstractColumnWidthStyleStrategy;
+import org.apache.poi.ss.usermodel.Cell;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 采样列宽策略
+ * <p>
+ * 仅根据表头及前 N 行数据估算列宽，之后的数据行不再测量，避免 {@code LongestMatchColumnWidthStyleStrategy} 在宽表、大数据量导出时逐单元格计算的开销。
+ * </p>
+ *
+ * @author Charles7c
+ * @since 2.7.5
+ */
+public class SampledColumnWidthStyleStrategy extends AbstractColumnWidthStyleStrategy {
+
+    /**
+     * 默认采样行数
+     */
+    public static final int DEFAULT_SAMPLE_ROWS = 100;
+
+    /**
+     * 最大列宽（字符数）
+     */
+    private static final int MAX_COLUMN_WIDTH = 255;
+
+    private final int sampleRows;
+    private final Map<Integer, Map<Integer, Integer>> cache = new HashMap<>();
+
+    public SampledColumnWidthStyleStrategy() {
+        this(DEFAULT_SAMPLE_ROWS);
+    }
+
+    public SampledColumnWidthStyleStrategy(int sampleRows) {
+        this.sampleRows = sampleRows;
+    }
+
+    @Override
+    protected void setColumnWidth(WriteSheetHolder writeSheetHolder,
+                                  List<WriteCellData<?>> cellDataList,
+                                  Cell cell,
+                                  Head head,
+                                  Integer relativeRowIndex,
+                                  Boolean isHead) {
+        boolean needSetWidth = Boolean.TRUE.equals(isHead) || CollUtil.isNotEmpty(cellDataList);
+        if (!needSetWidth) {
+            return;
+        }
+        // 分批写入时 relativeRowIndex 每批从 0 开始，因此按绝对行号判断是否超出采样范围
+        if (!Boolean.TRUE.equals(isHead) && cell.getRowIndex() >= writeSheetHolder.getExcelWriteHeadProperty()
+            .getHeadRowNumber() + sampleRows) {
+            return;
+        }
+        int columnWidth = this.dataLength(cellDataList, cell, isHead);
+        if (columnWidth < 0) {
+            return;
+        }
+        columnWidth = Math.min(columnWidth, MAX_COLUMN_WIDTH);
+        Map<Integer, Integer> maxColumnWidthMap = cache.computeIfAbsent(writeSheetHolder
+            .getSheetNo(), key -> new HashMap<>(16));
+        Integer maxColumnWidth = maxColumnWidthMap.get(cell.getColumnIndex());
+        if (null == maxColumnWidth || columnWidth > maxColumnWidth) {
+            maxColumnWidthMap.put(cell.getColumnIndex(), columnWidth);
+            writeSheetHolder.getSheet().setColumnWidth(cell.getColumnIndex(), columnWidth * 256);
+        }
+    }
+
+    /**
+     * 计算单元格内容长度
+     *
+     * @param cellDataList 单元格数据
+     * @param cell         单元格
+     * @param isHead       是否为表头
+     * @return 内容长度，无法计算时为 -1
+     */
+    private int dataLength(List<WriteCellData<?>> cellDataList, Cell cell, Boolean isHead) {
+        if (Boolean.TRUE.equals(isHead)) {
+            return cell.getStringCellValue().getBytes().length;
+        }
+        WriteCellData<?> cellData = cellDataList.get(0);
+        CellDataTypeEnum type = cellData.getType();
+        if (null == type) {
+            return -1;
+        }
+        return switch (type) {
+            case STRING -> cellData.getStringValue().getBytes().length;
+            case BOOLEAN -> cellData.getBooleanValue().toString().getBytes().length;
+            case NUMBER -> cellData.getNumberValue().toString().getBytes().length;
+            default -> -1;
+        };
+    }
+}
@@ -20,17 +20,30 @@ import cn.hutool.core.date.DatePattern;
 import cn.hutool.core.date.DateUtil;
 import cn.hutool.core.util.URLUtil;
 import com.alibaba.excel.EasyExcelFactory;
+import com.alibaba.excel.ExcelWriter;
 import com.alibaba.excel.write.style.column.LongestMatchColumnWidthStyleStrategy;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import top.continew.starter.core.exception.BaseException;
 import top.continew.starter.file.excel.converter.ExcelBigNumberConverter;
+import top.continew.starter.file.excel.converter.ExcelListConverter;
+import top.continew.starter.file.excel.core.CsvStreamWriter;
+import top.continew.starter.file.excel.core.DataStreamWriter;
+import top.continew.starter.file.excel.core.ExcelExportBuilder;
+import top.continew.starter.file.excel.core.ExcelReadResult;
+import top.continew.starter.file.excel.core.ExcelStreamReadListener;
+import top.continew.starter.file.excel.core.ExcelStreamWriter;
+import top.continew.starter.file.excel.core.NdjsonStreamWriter;
+import top.continew.starter.file.excel.enums.ExportFormat;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Excel 工具类
@@ -74,10 +87,7 @@ public class ExcelUtils {
                                   Class<T> clazz,
                                   HttpServletResponse response) {
         try {
-            String exportFileName = URLUtil.encode("%s_%s.xlsx".formatted(fileName, DateUtil
-                .format(new Date(), DatePattern.PURE_DATETIME_PATTERN)));
-            response.setHeader("Content-disposition", "attachment;filename=" + exportFileName);
-            response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet;charset=utf-8");
+            setResponseHeader(fileName, response);
             EasyExcelFactory.write(response.getOutputStream(), clazz)
                 .autoCloseStream(false)
                 // 自动适配宽度
@@ -92,4 +102,170 @@ public class ExcelUtils {
             throw new BaseException("导出 Excel 出现错误");
         }
     }
+
+    /**
+     * 流式导出（分批写入，适用于大数据量导出）
+     *
+     * @param fileName 文件名
+     * @param clazz    导出数据类型
+     * @param response 响应对象
+     * @return 流式写入器（使用完毕后需关闭）
+     * @since 2.7.5
+     */
+    public static <T> ExcelStreamWriter<T> streamExport(String fileName, Class<T> clazz, HttpServletResponse response) {
+        return streamExport(fileName, "Sheet1", Collections.emptySet(), clazz, response);
+    }
+
+    /**
+     * 流式导出（分批写入，适用于大数据量导出）
+     *
+     * @param fileName                文件名
+     * @param sheetName               工作表名称
+     * @param excludeColumnFieldNames 排除字段
+     * @param clazz                   导出数据类型
+     * @param response                响应对象
+     * @return 流式写入器（使用完毕后需关闭）
+     * @since 2.7.5
+     */
+    public static <T> ExcelStreamWriter<T> streamExport(String fileName,
+                                                        String sheetName,
+                                                        Set<String> excludeColumnFieldNames,
+                                                        Class<T> clazz,
+                                                        HttpServletResponse response) {
+        try {
+            setResponseHeader(fileName, response);
+            ExcelWriter excelWriter = EasyExcelFactory.write(response.getOutputStream(), clazz)
+                .autoCloseStream(false)
+                // 自动适配宽度
+                .registerWriteHandler(new LongestMatchColumnWidthStyleStrategy())
+                // 自动转换大数值
+                .registerConverter(new ExcelBigNumberConverter())
+                .excludeColumnFieldNames(excludeColumnFieldNames)
+                .build();
+            return new ExcelStreamWriter<>(excelWriter, EasyExcelFactory.writerSheet(sheetName).build());
+        } catch (Exception e) {
+            log.error("Export excel occurred an error: {}. fileName: {}.", e.getMessage(), fileName, e);
+            throw new BaseException("导出 Excel 出现错误");
+        }
+    }
+
+    /**
+     * 流式导出（分批写入，适用于大数据量导出）
+     * <p>
+     * CSV、NDJSON 格式直接按行写出到响应流，复用 {@code @ExcelProperty} 等注解定义的列，适用于面向程序消费的大数据量导出
+     * </p>
+     *
+     * @param fileName 文件名
+     * @param clazz    导出数据类型
+     * @param format   导出格式
+     * @param gzip     是否 gzip 压缩（仅对 CSV、NDJSON 生效，需客户端支持 gzip Content-Encoding）
+     * @param response 响应对象
+     * @return 流式写入器（使用完毕后需关闭）
+     * @since 2.7.5
+     */
+    public static <T> DataStreamWriter<T> streamExport(String fileName,
+                                                       Class<T> clazz,
+                                                       ExportFormat format,
+                                                       boolean gzip,
+                                                       HttpServletResponse response) {
+        if (null == format || ExportFormat.XLSX == format) {
+            return streamExport(fileName, clazz, response);
+        }
+        try {
+            String exportFileName = URLUtil.encode("%s_%s.%s".formatted(fileName, DateUtil
+                .format(new Date(), DatePattern.PURE_DATETIME_PATTERN), format.getExtension()));
+            response.setHeader("Content-disposition", "attachment;filename=" + exportFileName);
+            response.setContentType(format.getContentType() + ";charset=utf-8");
+            if (gzip) {
+                response.setHeader("Content-Encoding", "gzip");
+            }
+            OutputStream outputStream = response.getOutputStream();
+            return ExportFormat.CSV == format
+                ? new CsvStreamWriter<>(outputStream, clazz, gzip)
+                : new NdjsonStreamWriter<>(outputStream, clazz, gzip);
+        } catch (Exception e) {
+            log.error("Export data occurred an error: {}. fileName: {}.", e.getMessage(), fileName, e);
+            throw new BaseException("导出数据出现错误");
+        }
+    }
+
+    /**
+     * 构建导出（支持多工作表、超出行数上限自动续写、采样估算列宽及并行转换）
+     *
+     * @param fileName 文件名
+     * @param clazz    导出数据类型
+     * @param response 响应对象
+     * @return 导出构建器（添加工作表后调用 {@link ExcelExportBuilder#doExport()} 执行导出）
+     * @since 2.7.5
+     */
+    public static <T> ExcelExportBuilder<T> exportBuilder(String fileName,
+                                                          Class<T> clazz,
+                                                          HttpServletResponse response) {
+        try {
+            setResponseHeader(fileName, response);
+            return new ExcelExportBuilder<>(response.getOutputStream(), clazz);
+        } catch (Exception e) {
+            log.error("Export excel occurred an error: {}. fileName: {}.", e.getMessage(), fileName, e);
+            throw new BaseException("导出 Excel 出现错误");
+        }
+    }
+
+    /**
+     * 流式导入（逐行读取，分批处理，适用于大数据量导入）
+     *
+     * @param inputStream 输入流（不会自动关闭）
+     * @param clazz       导入数据类型
+     * @param batchSize   批次大小
+     * @param sink        批量处理器
+     * @return 导入结果
+     * @since 2.7.5
+     */
+    public static <T> ExcelReadResult streamImport(InputStream inputStream,
+                                                   Class<T> clazz,
+                                                   int batchSize,
+                                                   Consumer<List<T>> sink) {
+        return streamImport(inputStream, clazz, new ExcelStreamReadListener<>(batchSize, sink));
+    }
+
+    /**
+     * 流式导入（逐行读取，分批处理，适用于大数据量导入）
+     *
+     * @param inputStream 输入流（不会自动关闭）
+     * @param clazz       导入数据类型
+     * @param listener    流式读取监听器
+     * @return 导入结果
+     * @since 2.7.5
+     */
+    public static <T> ExcelReadResult streamImport(InputStream inputStream,
+                                                   Class<T> clazz,
+                                                   ExcelStreamReadListener<T> listener) {
+        try {
+            EasyExcelFactory.read(inputStream, clazz, listener)
+                .autoCloseStream(false)
+                // 自动转换大数值
+                .registerConverter(new ExcelBigNumberConverter())
+                .registerConverter(new ExcelListConverter())
+                .sheet()
+                .doRead();
+        } catch (BaseException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Import excel occurred an error: {}.", e.getMessage(), e);
+            throw new BaseException("导入 Excel 出现错误");
+        }
+        return listener.getResult();
+    }
+
+    /**
+     * 设置导出响应头
+     *
+     * @param fileName 文件名
+     * @param response 响应对象
+     */
+    private static void setResponseHeader(String fileName, HttpServletResponse response) {
+        String exportFileName = URLUtil.encode("%s_%s.xlsx".formatted(fileName, DateUtil
+            .format(new Date(), DatePattern.PURE_DATETIME_PATTERN)));
+        response.setHeader("Content-disposition", "attachment;filename=" + exportFileName);
+        response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet;charset=utf-8");
+    }
 }
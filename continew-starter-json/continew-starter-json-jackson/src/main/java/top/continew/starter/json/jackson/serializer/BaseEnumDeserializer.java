@@ -16,63 +16,77 @@
 
 package top.continew.starter.json.jackson.serializer;
 
-import cn.hutool.core.convert.Convert;
-import cn.hutool.core.util.ClassUtil;
 import cn.hutool.core.util.ReflectUtil;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanProperty;
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.annotation.JacksonStdImpl;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
 import top.continew.starter.core.enums.BaseEnum;
+import top.continew.starter.core.util.BaseEnumUtils;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
-import java.util.Objects;
 
 /**
  * 枚举接口 BaseEnum 反序列化器
+ * <p>
+ * 通过上下文解析出具体的枚举类型（字段、集合元素等），再由 {@link BaseEnumUtils} 缓存的映射表查找枚举实例
+ * </p>
  *
  * @author Charles7c
  * @see BaseEnum
  * @since 2.4.0
  */
 @JacksonStdImpl
-public class BaseEnumDeserializer extends JsonDeserializer<BaseEnum> {
+public class BaseEnumDeserializer extends JsonDeserializer<BaseEnum> implements ContextualDeserializer {
 
     /**
      * 静态实例
      */
     public static final BaseEnumDeserializer SERIALIZER_INSTANCE = new BaseEnumDeserializer();
 
+    /**
+     * 枚举类型（未能通过上下文解析时为 {@code null}）
+     */
+    private final Class<?> enumType;
+
+    public BaseEnumDeserializer() {
+        this(null);
+    }
+
+    public BaseEnumDeserializer(Class<?> enumType) {
+        this.enumType = enumType;
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext context, BeanProperty property) {
+        JavaType type = context.getContextualType();
+        if (null == type && null != property) {
+            type = property.getType().isContainerType() ? property.getType().getContentType() : property.getType();
+        }
+        Class<?> rawClass = null == type ? null : type.getRawClass();
+        if (!BaseEnumUtils.isBaseEnum(rawClass) || rawClass == enumType) {
+            return this;
+        }
+        return new BaseEnumDeserializer(rawClass);
+    }
+
     @Override
     public BaseEnum deserialize(JsonParser jsonParser,
                                 DeserializationContext deserializationContext) throws IOException {
-        Class<?> targetClass = jsonParser.getCurrentValue().getClass();
-        String fieldName = jsonParser.getCurrentName();
         String value = jsonParser.getText();
-        return this.getEnum(targetClass, value, fieldName);
-    }
-
-    /**
-     * 通过某字段对应值获取枚举实例，获取不到时为 {@code null}
-     *
-     * @param targetClass 目标类型
-     * @param value       字段值
-     * @param fieldName   字段名
-     * @return 对应枚举实例 ，获取不到时为 {@code null}
-     */
-    private BaseEnum getEnum(Class<?> targetClass, String value, String fieldName) {
-        Field field = ReflectUtil.getField(targetClass, fieldName);
-        Class<?> fieldTypeClass = field.getType();
-        Object[] enumConstants = fieldTypeClass.getEnumConstants();
-        for (Object enumConstant : enumConstants) {
-            if (ClassUtil.isAssignable(BaseEnum.class, fieldTypeClass)) {
-                BaseEnum baseEnum = (BaseEnum)enumConstant;
-                if (Objects.equals(Convert.toStr(baseEnum.getValue()), Convert.toStr(value))) {
-                    return baseEnum;
-                }
-            }
+        if (null != enumType) {
+            return BaseEnumUtils.getByValue(enumType, value);
+        }
+        // 兼容：未能通过上下文解析枚举类型时，根据当前字段获取
+        Object currentValue = jsonParser.getCurrentValue();
+        if (null == currentValue) {
+            return null;
         }
-        return null;
+        Field field = ReflectUtil.getField(currentValue.getClass(), jsonParser.getCurrentName());
+        return null == field ? null : BaseEnumUtils.getByValue(field.getType(), value);
     }
 }
@@ -18,9 +18,7 @@ package top.continew.starter.web.autoconfigure.mvc;
 
 import org.springframework.core.convert.converter.Converter;
 import top.continew.starter.core.enums.BaseEnum;
-
-import java.util.HashMap;
-import java.util.Map;
+import top.continew.starter.core.util.BaseEnumUtils;
 
 /**
  * BaseEnum 参数转换器
@@ -30,17 +28,14 @@ import java.util.Map;
  */
 public class BaseEnumConverter<T extends BaseEnum> implements Converter<String, T> {
 
-    private final Map<String, T> enumMap = new HashMap<>();
+    private final Class<T> enumType;
 
     public BaseEnumConverter(Class<T> enumType) {
-        T[] enums = enumType.getEnumConstants();
-        for (T e : enums) {
-            enumMap.put(String.valueOf(e.getValue()), e);
-        }
+        this.enumType = enumType;
     }
 
     @Override
     public T convert(String source) {
-        return enumMap.get(source);
+        return (T)BaseEnumUtils.getByValue(enumType, source);
     }
 }